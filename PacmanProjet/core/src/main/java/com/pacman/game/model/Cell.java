@@ -10,8 +10,17 @@ import java.util.*;
 public class Cell {
 
     public int row, col;
+
+    /**
+     * Dense integer id (row * maze.cols + col), assigned by the Maze constructor.
+     * Lets callers use id-indexed primitive arrays instead of HashMap/HashSet.
+     * -1 while the cell does not belong to a Maze.
+     */
+    public int id = -1;
+
     public Cell north, south, east, west;
     private Map<Cell, Boolean> links;
+    private Cell[] linked = new Cell[0];  // même contenu que links, en tableau (parcours rapide)
     public boolean isWalkable = false;  // ✅ Default WALL
     public boolean hasPellet = false;
 
@@ -35,7 +44,10 @@ public class Cell {
      */
     public void link(Cell cell, boolean bidi) {
         if (cell == null) return; // ADD THIS LINE
-        links.put(cell, true);
+        if (links.put(cell, true) == null) {
+            linked = Arrays.copyOf(linked, linked.length + 1);
+            linked[linked.length - 1] = cell;
+        }
         if (bidi) {
             cell.link(this, false);
         }
@@ -52,7 +64,9 @@ public class Cell {
      * @param bidi If true, unlinks back from the other cell to this cell.
      */
     public void unlink(Cell cell, boolean bidi) {
-        links.remove(cell);
+        if (links.remove(cell) != null) {
+            linked = links.keySet().toArray(new Cell[0]);
+        }
         if (bidi) {
             cell.unlink(this, false);
         }
@@ -79,6 +93,14 @@ public class Cell {
         return links.keySet();
     }
 
+    /**
+     * Linked cells as an array (no iterator, no bucket scan): use in hot loops (BFS).
+     * Do not modify the returned array.
+     */
+    public Cell[] linkedCells() {
+        return linked;
+    }
+
     /**
      * Returns a list of neighboring cells (north, south, east, west).
      *
@@ -146,11 +168,11 @@ public class Cell {
             List<Cell> newFrontier = new ArrayList<>();
 
             for (Cell cell : frontier) {
-                int currentDistance = distances.get(cell);
+                int currentDistance = distances.distanceTo(cell);
 
-                for (Cell linked : cell.links()) {
+                for (Cell linked : cell.linkedCells()) {
                     // Skip already visited cells
-                    if (distances.get(linked) != null) continue;
+                    if (distances.contains(linked)) continue;
 
                     distances.put(linked, currentDistance + 1);
                     newFrontier.add(linked);
@@ -177,9 +199,13 @@ public class Cell {
         Cell other = (Cell) obj;
         return row == other.row && col == other.col;
     }
+    /**
+     * Allocation-free (Objects.hash boxed both ints into a new Object[] on every call).
+     * Depends only on row/col, like equals, so cells without an id hash the same way.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(row, col);
+        return (row << 16) ^ col;
     }
 
     /** Manhattan distance between two cells */
@@ -6,33 +6,69 @@ import java.util.*;
  *
  * Stores the distance (in steps) from a root Cell to other reachable Cells.
  * Useful for pathfinding and AI in maze-based games like Pac-Man.
+ *
+ * Backed by an int[] indexed by Cell.id (-1 = unknown) instead of a HashMap,
+ * so cells must belong to a Maze (ids are assigned by the Maze constructor).
  */
 public class Distances {
 
     private final Cell root;
-    private final Map<Cell, Integer> cells = new HashMap<>();
+    private int[] distances;
+    private final List<Cell> cells = new ArrayList<>();  // reached cells, in insertion order
 
     /**
      * Creates a new Distances map starting from the given root cell.
      */
     public Distances(Cell root) {
+        this(root, 64);
+    }
+
+    /**
+     * Creates a new Distances map sized for a maze (capacity = maze.size()).
+     */
+    public Distances(Cell root, int capacity) {
+        if (root.id < 0) {
+            throw new IllegalArgumentException(root + " does not belong to a Maze (no id)");
+        }
         this.root = root;
-        this.cells.put(root, 0);
+        this.distances = new int[Math.max(capacity, root.id + 1)];
+        Arrays.fill(distances, -1);
+        put(root, 0);
     }
 
     /** Gets the distance for a cell. Returns null if unknown. */
     public Integer get(Cell cell) {
-        return cells.get(cell);
+        int distance = distanceTo(cell);
+        return distance < 0 ? null : distance;
+    }
+
+    /** Gets the distance for a cell without boxing. Returns -1 if unknown. */
+    public int distanceTo(Cell cell) {
+        if (cell == null || cell.id < 0 || cell.id >= distances.length) return -1;
+        return distances[cell.id];
+    }
+
+    /** True if a distance is known for this cell. */
+    public boolean contains(Cell cell) {
+        return distanceTo(cell) >= 0;
     }
 
     /** Sets the distance for a cell. */
     public void put(Cell cell, int distance) {
-        cells.put(cell, distance);
+        if (cell.id >= distances.length) {
+            int previous = distances.length;
+            distances = Arrays.copyOf(distances, Math.max(previous * 2, cell.id + 1));
+            Arrays.fill(distances, previous, distances.length, -1);
+        }
+        if (distances[cell.id] < 0) {
+            cells.add(cell);
+        }
+        distances[cell.id] = distance;
     }
 
     /** Returns the set of all cells stored in this distance map. */
     public Set<Cell> cells() {
-        return cells.keySet();
+        return new LinkedHashSet<>(cells);
     }
 
     /**
@@ -41,13 +77,13 @@ public class Distances {
      */
     public Distances pathTo(Cell goal) {
         Cell current = goal;
-        Distances breadcrumbs = new Distances(root);
-        breadcrumbs.put(current, cells.get(current));
+        Distances breadcrumbs = new Distances(root, distances.length);
+        breadcrumbs.put(current, distanceTo(current));
 
-        while (!current.equals(root)) {
+        while (current != root) {
             for (Cell neighbor : current.links()) {
-                if (cells.containsKey(neighbor) && cells.get(neighbor) < cells.get(current)) {
-                    breadcrumbs.put(neighbor, cells.get(neighbor));
+                if (contains(neighbor) && distanceTo(neighbor) < distanceTo(current)) {
+                    breadcrumbs.put(neighbor, distanceTo(neighbor));
                     current = neighbor;
                     break;
                 }
@@ -65,10 +101,10 @@ public class Distances {
         int maxDistance = 0;
         Cell maxCell = root;
 
-        for (Map.Entry<Cell, Integer> entry : cells.entrySet()) {
-            if (entry.getValue() > maxDistance) {
-                maxCell = entry.getKey();
-                maxDistance = entry.getValue();
+        for (Cell cell : cells) {
+            if (distances[cell.id] > maxDistance) {
+                maxCell = cell;
+                maxDistance = distances[cell.id];
             }
         }
 
@@ -88,10 +124,10 @@ public class Distances {
     public Map.Entry<Cell, Integer> min() {
         int minDistance = Integer.MAX_VALUE;
         Cell minCell = root;
-        for (Map.Entry<Cell, Integer> entry : cells.entrySet()) {
-            if (entry.getValue() < minDistance) {
-                minCell = entry.getKey();
-                minDistance = entry.getValue();
+        for (Cell cell : cells) {
+            if (distances[cell.id] < minDistance) {
+                minCell = cell;
+                minDistance = distances[cell.id];
             }
         }
         return Map.entry(minCell, minDistance);
@@ -0,0 +1,141 @@
+package com.pacman.game.model;
+
+import java.util.Arrays;
+
+/**
+ * ✅ CHAMPS DE FLUX (flow fields) PARTAGÉS
+ *
+ * Pour une cellule cible, un seul BFS (depuis la cible) remplit un byte[] indexé par Cell.id :
+ * la direction du premier pas vers la cible depuis chaque cellule. Tous les fantômes qui
+ * visent la même cible suivent ensuite ce champ en O(1), quel que soit leur nombre.
+ *
+ * Les champs sont gardés dans un cache LRU borné (capacity emplacements) :
+ * - recherche par balayage des emplacements (capacity petit, aucune allocation, pas de boxing)
+ * - en cas d'éviction, le byte[] du champ le moins récemment utilisé est réutilisé
+ */
+public class FlowFields {
+
+    // Directions stockées (0 = aucune : cible atteinte ou inatteignable)
+    public static final byte NONE = 0;
+    public static final byte NORTH = 1;  // row - 1
+    public static final byte SOUTH = 2;  // row + 1
+    public static final byte EAST = 3;   // col + 1
+    public static final byte WEST = 4;   // col - 1
+
+    /**
+     * ✅ Champ vers une cible : direction du prochain pas pour chaque cellule
+     */
+    public final class FlowField {
+        private int targetId = -1;
+        private final byte[] directions;
+        private long lastUsed;
+
+        private FlowField(int size) {
+            this.directions = new byte[size];
+        }
+
+        /**
+         * ✅ Cellule suivante vers la cible (null si déjà sur la cible ou inatteignable)
+         */
+        public Cell next(Cell from) {
+            if (from == null || from.id < 0) return null;
+            return switch (directions[from.id]) {
+                case NORTH -> maze.getCellAt(from.row - 1, from.col);
+                case SOUTH -> maze.getCellAt(from.row + 1, from.col);
+                case EAST -> maze.getCellAt(from.row, from.col + 1);
+                case WEST -> maze.getCellAt(from.row, from.col - 1);
+                default -> null;
+            };
+        }
+
+        public byte directionAt(Cell from) {
+            return from == null || from.id < 0 ? NONE : directions[from.id];
+        }
+
+        public Cell getTarget() {
+            return maze.getCell(targetId);
+        }
+    }
+
+    private final Maze maze;
+    private final FlowField[] slots;
+    private final int[] queue;
+    private long clock = 0;
+    private int hits = 0;
+    private int misses = 0;
+
+    public FlowFields(Maze maze, int capacity) {
+        this.maze = maze;
+        this.slots = new FlowField[Math.max(1, capacity)];
+        this.queue = new int[maze.size()];
+    }
+
+    /**
+     * ✅ Champ vers la cible (calculé au premier appel, puis servi depuis le cache)
+     */
+    public FlowField toward(Cell target) {
+        if (target == null || target.id < 0) return null;
+        clock++;
+
+        int free = -1;
+        int oldest = 0;
+        for (int i = 0; i < slots.length; i++) {
+            FlowField field = slots[i];
+            if (field == null) {
+                if (free < 0) free = i;
+                continue;
+            }
+            if (field.targetId == target.id) {
+                field.lastUsed = clock;
+                hits++;
+                return field;
+            }
+            if (slots[oldest] == null || field.lastUsed < slots[oldest].lastUsed) oldest = i;
+        }
+
+        misses++;
+        FlowField field;
+        if (free >= 0) {
+            field = new FlowField(maze.size());
+            slots[free] = field;
+        } else {
+            field = slots[oldest];  // éviction LRU : on réutilise son tableau
+        }
+        compute(field, target);
+        field.lastUsed = clock;
+        return field;
+    }
+
+    /**
+     * ✅ BFS depuis la cible : chaque cellule découverte pointe vers la cellule qui l'a découverte
+     */
+    private void compute(FlowField field, Cell target) {
+        byte[] directions = field.directions;
+        Arrays.fill(directions, NONE);
+        field.targetId = target.id;
+
+        // Visité = direction déjà posée (la cible, seule à rester NONE, est testée à part)
+        int head = 0, tail = 0;
+        queue[tail++] = target.id;
+
+        while (head < tail) {
+            Cell current = maze.getCell(queue[head++]);
+            for (Cell neighbor : current.linkedCells()) {
+                if (neighbor.id == target.id || directions[neighbor.id] != NONE) continue;
+                directions[neighbor.id] = stepFrom(neighbor, current);
+                queue[tail++] = neighbor.id;
+            }
+        }
+    }
+
+    private static byte stepFrom(Cell from, Cell to) {
+        if (to.row < from.row) return NORTH;
+        if (to.row > from.row) return SOUTH;
+        if (to.col > from.col) return EAST;
+        return WEST;
+    }
+
+    public int getHits() { return hits; }
+    public int getMisses() { return misses; }
+    public int getCapacity() { return slots.length; }
+}
@@ -0,0 +1,63 @@
+package com.pacman.game.model;
+
+/**
+ * ✅ HORLOGE À PAS FIXE (fixed timestep)
+ *
+ * La simulation avance par ticks de durée constante (STEP), indépendamment
+ * du nombre d'images affichées par seconde :
+ *
+ *   render(delta) → clock.advance(delta)
+ *                 → while (clock.consumeTick()) gameState.update();
+ *                 → renderers interpolent avec clock.alpha()
+ *
+ * Un écran 144 Hz exécute donc autant de ticks par seconde qu'un écran 60 Hz
+ * (simplement moins de ticks par image). Le temps accumulé est plafonné
+ * (MAX_FRAME_TIME) pour éviter la "spirale de la mort" après une pause ou un freeze.
+ */
+public class GameClock {
+
+    public static final int TICKS_PER_SECOND = 60;
+    public static final float STEP = 1f / TICKS_PER_SECOND;
+
+    // Au-delà, on ralentit la simulation plutôt que d'enchaîner des centaines de ticks
+    private static final float MAX_FRAME_TIME = 0.25f;
+
+    private float accumulator = 0f;
+    private long ticks = 0;
+
+    /**
+     * ✅ Ajouter le temps écoulé depuis la dernière image
+     */
+    public void advance(float delta) {
+        accumulator += Math.min(Math.max(delta, 0f), MAX_FRAME_TIME);
+    }
+
+    /**
+     * ✅ Consommer un tick s'il y en a un en attente
+     */
+    public boolean consumeTick() {
+        if (accumulator < STEP) return false;
+        accumulator -= STEP;
+        ticks++;
+        return true;
+    }
+
+    /**
+     * ✅ Fraction du tick suivant déjà écoulée (0..1), pour interpoler le rendu
+     */
+    public float alpha() {
+        return accumulator / STEP;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * ✅ Repartir de zéro (nouveau niveau)
+     */
+    public void reset() {
+        accumulator = 0f;
+        ticks = 0;
+    }
+}
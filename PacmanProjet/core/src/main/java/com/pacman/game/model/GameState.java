@@ -4,18 +4,41 @@ import com.pacman.game.model.ghost.*;
 import java.util.*;
 
 public class GameState {
+    // Champs de flux gardés en cache (au moins un par fantôme)
+    private static final int FLOW_FIELD_CACHE = 16;
+    // Blinky, Pinky, Inky, Clyde
+    public static final int DEFAULT_GHOST_COUNT = 4;
+
     public Pacman pacman;
     public Maze maze;
     public List<Ghost> ghosts;
+    public GhostMovement ghostMovement;
+    public GhostTeam ghostTeam;
+    public GhostHouse ghostHouse;
+    public Cell pacmanStart;
     public int score;
     public int lives;
     public boolean gameOver;
     public boolean won;
 
-    public Set<Cell> pelletsRemaining;
+    // ✅ Pellets indexés par Cell.id (pas de HashSet<Cell>)
+    public boolean[] pellets;
+    public int pelletCount;
+
+    // ✅ Journal des pellets mangés (ids, dans l'ordre) : le rendu n'efface que les nouvelles entrées
+    public int[] eatenPellets;
+    public int eatenPelletCount;
     public int level;
 
     public GameState(Maze maze) {
+        this(maze, DEFAULT_GHOST_COUNT);
+    }
+
+    /**
+     * ✅ Partie sur un maze de taille quelconque avec ghostCount fantômes
+     * Spawn de Pacman, maison des fantômes et coins de scatter sont dérivés du maze
+     */
+    public GameState(Maze maze, int ghostCount) {
         this.maze = maze;
         this.score = 0;
         this.lives = 3;
@@ -23,14 +46,50 @@ public class GameState {
         this.gameOver = false;
         this.won = false;
         this.ghosts = new ArrayList<>();
+        this.ghostMovement = new GhostMovement(maze);
+        this.ghostMovement.setFlowFields(new FlowFields(maze, Math.max(FLOW_FIELD_CACHE, ghostCount)));
+
+        // Même place relative que (26, 1) sur le 31×28 d'origine : en bas à gauche
+        this.pacmanStart = maze.findNearestOpen(maze.rows * 26 / 31, 1);
+        this.pacman = new Pacman(pacmanStart);
+        this.ghostTeam = new GhostTeam(ghosts, pacman, maze);
 
-        Cell startCell = maze.getCellAt(26, 1);
-        this.pacman = new Pacman(startCell);
+        this.ghostHouse = new GhostHouse(maze.rows / 2, maze.cols / 2,
+            Math.min(8, maze.cols), Math.min(4, maze.rows), maze);
+        spawnGhosts(ghostCount);
 
-        this.pelletsRemaining = new HashSet<>();
+        this.pellets = new boolean[maze.size()];
+        this.eatenPellets = new int[maze.size()];  // chaque pellet n'est mangé qu'une fois
         spawnPellets();
     }
 
+    /**
+     * ✅ Créer ghostCount fantômes (Blinky, Pinky, Inky, Clyde en boucle)
+     * Coins de scatter : les 4 coins ouverts du maze, attribués en boucle
+     */
+    private void spawnGhosts(int ghostCount) {
+        Cell[] corners = {
+            maze.findNearestOpen(0, maze.cols - 1),
+            maze.findNearestOpen(0, 0),
+            maze.findNearestOpen(maze.rows - 1, maze.cols - 1),
+            maze.findNearestOpen(maze.rows - 1, 0)
+        };
+
+        for (int id = 0; id < ghostCount; id++) {
+            Cell spawn = ghostHouse.getSpawnPosition(id);
+            Cell corner = corners[id % corners.length];
+            Ghost ghost = switch (id % 4) {
+                case 0 -> new Blinky(id, spawn, corner);
+                case 1 -> new Pinky(id, spawn, corner);
+                case 2 -> new Inky(id, spawn, corner);
+                default -> new Clyde(id, spawn, corner);
+            };
+            ghosts.add(ghost);
+            ghostHouse.addGhost(ghost);
+            ghost.setMode(Ghost.GhostMode.WAITING);
+        }
+    }
+
     private void spawnPellets() {
         for (int r = 0; r < maze.rows; r++) {
             for (int c = 0; c < maze.cols; c++) {
@@ -38,20 +97,23 @@ public class GameState {
                 if (cell == null) continue;
 
                 // ✅ ONLY add pellets to WALKABLE cells (not Pacman start)
-                if (!(r == 26 && c == 1)) {  // Not Pacman start
-                    pelletsRemaining.add(cell);
+                if (cell != pacmanStart) {
+                    pellets[cell.id] = true;
+                    pelletCount++;
                 }
             }
         }
     }
 
     public boolean hasPelletAt(Cell cell) {
-        return cell != null && pelletsRemaining.contains(cell);
+        return cell != null && cell.id >= 0 && pellets[cell.id];
     }
 
     public int eatPelletAt(Cell cell) {
         if (hasPelletAt(cell)) {
-            pelletsRemaining.remove(cell);
+            pellets[cell.id] = false;
+            pelletCount--;
+            eatenPellets[eatenPelletCount++] = cell.id;
             this.score += 10;
             return 10;
         }
@@ -59,9 +121,13 @@ public class GameState {
     }
 
     public boolean isGameWon() {
-        return pelletsRemaining.isEmpty();
+        return pelletCount == 0;
     }
 
+    /**
+     * ✅ Un tick de simulation (GameClock.STEP secondes)
+     * Tous les compteurs (déplacements, modes des fantômes) sont en ticks, pas en images
+     */
     public void update() {
         if (gameOver || won || pacman == null) return;
 
@@ -70,6 +136,14 @@ public class GameState {
         if (hasPelletAt(pacman.currentCell)) {
             eatPelletAt(pacman.currentCell);
         }
+
+        // Une planification partagée par tick, puis déplacement de chaque fantôme
+        ghostHouse.update();
+        ghostTeam.coordinatedAttack();
+        for (Ghost ghost : ghosts) {
+            ghost.update(pacman, maze);
+            ghostMovement.step(ghost, pacman, GameClock.STEP);
+        }
     }
 
     @Override
@@ -79,6 +153,6 @@ public class GameState {
     }
 
     public String getPelletsRemaining() {
-        return "Pellets Remaining: " + pelletsRemaining.size();
+        return "Pellets Remaining: " + pelletCount;
     }
 }
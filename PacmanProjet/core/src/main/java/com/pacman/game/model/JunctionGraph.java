@@ -0,0 +1,180 @@
+package com.pacman.game.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ✅ GRAPHE DES JONCTIONS DU LABYRINTHE
+ *
+ * Précalculé une fois par Maze :
+ * - Noeuds : cellules où il faut décider (degré != 2 : intersections, impasses)
+ * - Arêtes : couloirs (suite de cellules de degré 2) entre deux noeuds, avec leur longueur
+ *
+ * Un fantôme sur un couloir n'a rien à décider : il avance d'une distance,
+ * et ne consulte le graphe qu'en arrivant au noeud suivant (voir GhostMovement).
+ *
+ * Tous les tableaux sont indexés par Cell.id.
+ */
+public class JunctionGraph {
+
+    /**
+     * ✅ Couloir orienté : from → path[0] → ... → path[length - 1] == to
+     */
+    public static final class Corridor {
+        public final Cell from;
+        public final Cell to;
+        public final Cell[] path;
+        public final int length;
+        public Corridor reverse;  // même couloir dans l'autre sens
+
+        Corridor(Cell from, Cell[] path) {
+            this.from = from;
+            this.path = path;
+            this.length = path.length;
+            this.to = path[path.length - 1];
+        }
+
+        /**
+         * ✅ Cellule à k pas de from (0 = from, length = to)
+         */
+        public Cell cellAt(int k) {
+            return k <= 0 ? from : path[Math.min(k, length) - 1];
+        }
+
+        @Override
+        public String toString() {
+            return "Corridor(" + from + " -> " + to + ", " + length + ")";
+        }
+    }
+
+    private final Maze maze;
+    private final boolean[] nodes;
+    private final Corridor[][] exits;   // par noeud : couloirs sortants
+    private final Corridor[] owner;     // par cellule intérieure : couloir qui la contient
+    private final int[] ownerIndex;     // ... et son index dans owner.path
+    private int nodeCount = 0;
+    private int corridorCount = 0;
+
+    public JunctionGraph(Maze maze) {
+        this.maze = maze;
+        int size = maze.size();
+        this.nodes = new boolean[size];
+        this.exits = new Corridor[size][];
+        this.owner = new Corridor[size];
+        this.ownerIndex = new int[size];
+
+        for (int id = 0; id < size; id++) {
+            Cell cell = maze.getCell(id);
+            if (cell != null && cell.linkedCells().length != 2) {
+                nodes[id] = true;
+                nodeCount++;
+            }
+        }
+        for (int id = 0; id < size; id++) {
+            if (nodes[id]) buildExits(maze.getCell(id));
+        }
+
+        // Boucles sans aucune jonction : une de leurs cellules devient un noeud
+        for (int id = 0; id < size; id++) {
+            Cell cell = maze.getCell(id);
+            if (cell != null && !nodes[id] && owner[id] == null) {
+                nodes[id] = true;
+                nodeCount++;
+                buildExits(cell);
+            }
+        }
+
+        for (int id = 0; id < size; id++) {
+            if (exits[id] != null) linkReverses(exits[id]);
+        }
+
+        System.out.println("🕸️  Junction graph: " + nodeCount + " nodes, " + corridorCount + " corridors");
+    }
+
+    private void buildExits(Cell node) {
+        List<Corridor> list = new ArrayList<>(4);
+        for (Cell first : node.linkedCells()) {
+            List<Cell> path = new ArrayList<>();
+            Cell previous = node;
+            Cell current = first;
+            path.add(current);
+            while (!nodes[current.id]) {
+                Cell next = null;
+                for (Cell linked : current.linkedCells()) {
+                    if (linked != previous) {
+                        next = linked;
+                        break;
+                    }
+                }
+                previous = current;
+                current = next;
+                path.add(current);
+            }
+
+            Corridor corridor = new Corridor(node, path.toArray(new Cell[0]));
+            for (int i = 0; i < corridor.length - 1; i++) {
+                Cell inner = corridor.path[i];
+                if (owner[inner.id] == null) {
+                    owner[inner.id] = corridor;
+                    ownerIndex[inner.id] = i;
+                }
+            }
+            list.add(corridor);
+            corridorCount++;
+        }
+        exits[node.id] = list.toArray(new Corridor[0]);
+    }
+
+    private void linkReverses(Corridor[] corridors) {
+        for (Corridor corridor : corridors) {
+            // Dans l'autre sens, on part de "to" par la dernière cellule avant "to"
+            Cell firstBack = corridor.cellAt(corridor.length - 1);
+            for (Corridor back : exits[corridor.to.id]) {
+                if (back.path[0] == firstBack && back.to == corridor.from && back.length == corridor.length) {
+                    corridor.reverse = back;
+                    break;
+                }
+            }
+        }
+    }
+
+    // ═══════════════════════════════════════════
+    // REQUÊTES (O(1))
+    // ═══════════════════════════════════════════
+
+    public boolean isNode(Cell cell) {
+        return cell != null && cell.id >= 0 && nodes[cell.id];
+    }
+
+    /**
+     * ✅ Couloirs sortants d'un noeud (tableau vide si cell n'est pas un noeud)
+     */
+    public Corridor[] exits(Cell node) {
+        Corridor[] result = node == null || node.id < 0 ? null : exits[node.id];
+        return result != null ? result : new Corridor[0];
+    }
+
+    /**
+     * ✅ Couloir contenant une cellule intérieure (null pour un noeud)
+     */
+    public Corridor corridorOf(Cell cell) {
+        return cell == null || cell.id < 0 ? null : owner[cell.id];
+    }
+
+    /**
+     * ✅ Nombre de pas depuis corridor.from jusqu'à la cellule, si elle est sur ce couloir ; -1 sinon
+     */
+    public int stepsAlong(Corridor corridor, Cell cell) {
+        if (cell == null || cell.id < 0) return -1;
+        if (cell == corridor.to) return corridor.length;
+        if (cell == corridor.from) return 0;
+        Corridor inner = owner[cell.id];
+        if (inner == corridor) return ownerIndex[cell.id] + 1;
+        if (inner != null && inner == corridor.reverse) return corridor.length - (ownerIndex[cell.id] + 1);
+        return -1;
+    }
+
+    public Maze getMaze() { return maze; }
+    public int getNodeCount() { return nodeCount; }
+    public int getCorridorCount() { return corridorCount; }
+}
@@ -23,6 +23,7 @@ public class Maze {
     public String id;           // ID unique du maze
     public int rows, cols;      // Dimensions
     public Cell[][] cells;      // Grille 2D de cellules
+    private final Cell[] byId;  // Cellules indexées par Cell.id (row * cols + col)
 
 
     // ═══════════════════════════════════════════
@@ -38,6 +39,17 @@ public class Maze {
         this.cols = cols;
         this.cells = cells;
 
+        // ✅ Ids denses : permettent des tableaux primitifs indexés par cellule
+        this.byId = new Cell[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                Cell cell = cells[r][c];
+                if (cell == null) continue;
+                cell.id = r * cols + c;
+                byId[cell.id] = cell;
+            }
+        }
+
         System.out.println("✅ Maze created: " + id + " (" + rows + "×" + cols + ")");
     }
 
@@ -54,6 +66,20 @@ public class Maze {
         return cells[r][c];
     }
 
+    /**
+     * ✅ Récupérer cellule par id (Cell.id)
+     */
+    public Cell getCell(int id) {
+        return id >= 0 && id < byId.length ? byId[id] : null;
+    }
+
+    /**
+     * ✅ Nombre d'ids possibles (rows × cols) : taille des tableaux indexés par Cell.id
+     */
+    public int size() {
+        return byId.length;
+    }
+
 
     // ═══════════════════════════════════════════
     // MOVEMENT
@@ -207,39 +233,60 @@ public class Maze {
         Random rand = new Random();
         int r, c;
         Cell cell;
+        // Une cellule avec au moins un passage (isWalkable n'est jamais renseigné par l'API)
         do {
             r = rand.nextInt(rows);
             c = rand.nextInt(cols);
             cell = getCellAt(r, c);
-        } while (cell == null || !cell.isWalkable);
+        } while (cell == null || cell.links().isEmpty());
         return cell;
     }
 
+    /**
+     * ✅ Cellule ouverte (au moins un passage) la plus proche de (row, col), bornes incluses
+     * Sert à dériver spawns et coins de scatter pour n'importe quelle taille de maze
+     */
+    public Cell findNearestOpen(int row, int col) {
+        row = Math.max(0, Math.min(row, rows - 1));
+        col = Math.max(0, Math.min(col, cols - 1));
+
+        Cell nearest = null;
+        int minDist = Integer.MAX_VALUE;
+        for (Cell cell : byId) {
+            if (cell == null || cell.links().isEmpty()) continue;
+            int dist = Math.abs(cell.row - row) + Math.abs(cell.col - col);
+            if (dist < minDist) {
+                minDist = dist;
+                nearest = cell;
+            }
+        }
+        return nearest != null ? nearest : getCellAt(row, col);
+    }
+
     public int mazeDistance(Cell cell, Cell currentCell) {
         if (cell == null || currentCell == null) return -1;
 
-        // BFS pour trouver la distance minimale
-        Queue<Cell> queue = new LinkedList<>();
-        Set<Cell> visited = new HashSet<>();
-        Map<Cell, Integer> distanceMap = new HashMap<>();
+        // BFS pour trouver la distance minimale (tableaux indexés par Cell.id)
+        int[] distance = new int[byId.length];
+        Arrays.fill(distance, -1);
+        int[] queue = new int[byId.length];
+        int head = 0, tail = 0;
 
-        queue.add(currentCell);
-        visited.add(currentCell);
-        distanceMap.put(currentCell, 0);
+        queue[tail++] = currentCell.id;
+        distance[currentCell.id] = 0;
 
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            int currentDistance = distanceMap.get(current);
+        while (head < tail) {
+            Cell current = byId[queue[head++]];
+            int currentDistance = distance[current.id];
 
             if (current == cell) {
                 return currentDistance;
             }
 
-            for (Cell neighbor : current.links()) {
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    queue.add(neighbor);
-                    distanceMap.put(neighbor, currentDistance + 1);
+            for (Cell neighbor : current.linkedCells()) {
+                if (distance[neighbor.id] < 0) {
+                    distance[neighbor.id] = currentDistance + 1;
+                    queue[tail++] = neighbor.id;
                 }
             }
         }
@@ -0,0 +1,151 @@
+package com.pacman.game.model;
+
+/**
+ * ✅ DÉPLACEMENT CONTINU D'UNE ENTITÉ (Pacman, fantômes)
+ *
+ * Position = cellule courante + décalage le long d'un couloir :
+ *   - cell    : cellule qui contient le centre de l'entité (pellets, collisions)
+ *   - heading : cellule voisine vers laquelle on va (offset > 0) ou d'où l'on vient (offset < 0)
+ *   - offset  : décalage en cellules par rapport au centre de cell, dans [-0.5, 0.5)
+ *
+ * advance(distance) avance de "distance" cellules (vitesse × GameClock.STEP) ;
+ * les décisions de direction ne se prennent qu'au centre d'une cellule (offset == 0),
+ * via le Steering fourni par l'entité.
+ *
+ * Rendu : garde aussi la position du tick précédent, interpolée avec GameClock.alpha().
+ */
+public class Motion {
+
+    /**
+     * ✅ Choix de la prochaine cellule, appelé au centre d'une cellule
+     */
+    public interface Steering {
+        /**
+         * @param at   cellule atteinte
+         * @param from cellule d'où l'on arrive (null si à l'arrêt ou après un spawn)
+         * @return voisine liée vers laquelle partir, ou null pour s'arrêter au centre
+         */
+        Cell next(Cell at, Cell from);
+    }
+
+    private Cell cell;
+    private Cell heading;
+    private float offset;
+
+    private float row, col;
+    private float prevRow, prevCol;
+
+    /**
+     * ✅ Placer directement sur une cellule (spawn, téléportation) : pas d'interpolation
+     */
+    public void snapTo(Cell target) {
+        if (target == null) return;
+        cell = target;
+        heading = null;
+        offset = 0f;
+        row = prevRow = target.row;
+        col = prevCol = target.col;
+    }
+
+    /**
+     * ✅ Début de tick : la position courante devient la position précédente
+     */
+    public void beginTick() {
+        prevRow = row;
+        prevCol = col;
+    }
+
+    /**
+     * ✅ Avancer de "distance" cellules
+     */
+    public void advance(float distance, Steering steering) {
+        if (cell == null) return;
+
+        while (distance > 0f) {
+            // Rejoindre le centre de la cellule courante
+            if (offset < 0f) {
+                if (distance < -offset) {
+                    offset += distance;
+                    break;
+                }
+                distance += offset;
+                offset = 0f;
+            }
+
+            // Au centre : décider où aller
+            if (offset == 0f) {
+                Cell next = steering.next(cell, heading);
+                if (next == null) break;  // bloqué : on reste au centre
+                heading = next;
+            }
+
+            // Quitter le centre vers heading ; à mi-chemin, on change de cellule
+            float toEdge = 0.5f - offset;
+            if (distance < toEdge) {
+                offset += distance;
+                break;
+            }
+            distance -= toEdge;
+            Cell previous = cell;
+            cell = heading;
+            heading = previous;
+            offset = -0.5f;
+        }
+
+        updatePosition();
+    }
+
+    /**
+     * ✅ Placer à une position précise calculée ailleurs (ex : GhostMovement sur un couloir)
+     * offset > 0 : en route vers heading ; offset < 0 : en provenance de heading
+     */
+    public void place(Cell cell, Cell heading, float offset) {
+        if (cell == null) return;
+        this.cell = cell;
+        this.heading = heading;
+        this.offset = heading == null ? 0f : offset;
+        updatePosition();
+    }
+
+    /**
+     * ✅ Demi-tour immédiat (sans attendre le centre de la cellule)
+     */
+    public void reverse() {
+        offset = -offset;
+    }
+
+    /**
+     * ✅ Au centre d'une cellule (décision possible) ?
+     */
+    public boolean isCentered() {
+        return offset == 0f;
+    }
+
+    private void updatePosition() {
+        float t = Math.abs(offset);
+        if (heading == null || t == 0f) {
+            row = cell.row;
+            col = cell.col;
+        } else {
+            row = cell.row + (heading.row - cell.row) * t;
+            col = cell.col + (heading.col - cell.col) * t;
+        }
+    }
+
+    public Cell getCell() { return cell; }
+    public Cell getHeading() { return heading; }
+    public float getOffset() { return offset; }
+    public float getRow() { return row; }
+    public float getCol() { return col; }
+
+    /**
+     * ✅ Position interpolée entre les deux derniers ticks
+     */
+    public float renderRow(float alpha) {
+        return prevRow + (row - prevRow) * alpha;
+    }
+
+    public float renderCol(float alpha) {
+        return prevCol + (col - prevCol) * alpha;
+    }
+}
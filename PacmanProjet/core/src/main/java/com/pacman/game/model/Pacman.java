@@ -16,11 +16,27 @@ public class Pacman {
     public Direction nextDirection;
     public int lives;
 
+    // ✅ Vitesse en cellules par seconde (déplacement continu, voir Motion)
+    public float speed = 8f;
+
+    // ✅ Position continue + rendu interpolé
+    public final Motion motion = new Motion();
+    private final Motion.Steering steering = this::chooseNext;
+
     public Pacman(Cell startCell) {
         this.currentCell = startCell;
         this.direction = Direction.NONE;
         this.nextDirection = Direction.NONE;
         this.lives = 3;
+        this.motion.snapTo(startCell);
+    }
+
+    /**
+     * ✅ Téléporter Pacman (respawn) sans interpolation
+     */
+    public void moveTo(Cell cell) {
+        this.currentCell = cell;
+        this.motion.snapTo(cell);
     }
 
     public int getRow() {
@@ -31,37 +47,61 @@ public class Pacman {
         return currentCell != null ? currentCell.col : -1;
     }
 
-    private Cell getNextCell(Direction dir) {
-        if (currentCell == null || dir == Direction.NONE) return null;
+    private static Cell getNextCell(Cell from, Direction dir) {
+        if (from == null || dir == Direction.NONE) return null;
 
         switch(dir) {
-            case UP: return currentCell.south;
-            case DOWN: return currentCell.north;
-            case LEFT: return currentCell.west;
-            case RIGHT: return currentCell.east;
+            case UP: return from.south;
+            case DOWN: return from.north;
+            case LEFT: return from.west;
+            case RIGHT: return from.east;
             default: return null;
         }
     }
 
     public boolean canMove(Direction dir) {
+        return canMove(currentCell, dir);
+    }
+
+    /**
+     * ✅ Mouvement possible depuis une cellule donnée (pas forcément currentCell)
+     */
+    public static boolean canMove(Cell from, Direction dir) {
         if (dir == Direction.NONE) return false;
-        Cell nextCell = getNextCell(dir);
+        Cell nextCell = getNextCell(from, dir);
         if (nextCell == null) return false;
-        return currentCell.isLinked(nextCell);
+        return from.isLinked(nextCell);
     }
 
+    /**
+     * ✅ Un tick de simulation (appelé à pas fixe par GameState)
+     * Avance de speed × GameClock.STEP cellules ; currentCell = cellule contenant le centre
+     */
     public void update(Maze maze) {
         if (currentCell == null) return;
 
-        if (canMove(nextDirection)) {
+        motion.beginTick();
+
+        // Demi-tour possible à tout moment, pas seulement au centre d'une cellule
+        if (direction != Direction.NONE && nextDirection == direction.opposite() && !motion.isCentered()) {
+            motion.reverse();
             direction = nextDirection;
-            currentCell = getNextCell(nextDirection);
-            return;
         }
 
-        if (canMove(direction)) {
-            currentCell = getNextCell(direction);
+        motion.advance(speed * GameClock.STEP, steering);
+        currentCell = motion.getCell();
+    }
+
+    /**
+     * ✅ Au centre d'une cellule : tourner si demandé, sinon continuer, sinon s'arrêter
+     */
+    private Cell chooseNext(Cell at, Cell from) {
+        if (canMove(at, nextDirection)) {
+            direction = nextDirection;
+        } else if (!canMove(at, direction)) {
+            return null;
         }
+        return getNextCell(at, direction);
     }
 
     public void setNextDirection(Direction dir) {
@@ -13,8 +13,15 @@ import com.pacman.game.model.Pacman;
 public class Blinky extends Ghost {
 
     public Blinky(Cell startCell, Cell scatterCorner) {
-        super("Blinky", new Color(1, 0, 0, 1), 0, startCell, scatterCorner);
-        this.speed = 3;
+        this(0, startCell, scatterCorner);
+    }
+
+    /**
+     * ✅ Avec un id explicite (plusieurs Blinky dans une partie à N fantômes)
+     */
+    public Blinky(int id, Cell startCell, Cell scatterCorner) {
+        super("Blinky", new Color(1, 0, 0, 1), id, startCell, scatterCorner);
+        setSpeedMode(SpeedMode.SLOW);
     }
 
     @Override
@@ -16,8 +16,15 @@ public class Clyde extends Ghost {
     private Random random = new Random();
 
     public Clyde(Cell startCell, Cell scatterCorner) {
-        super("Clyde", new Color(1, 0.8f, 0.5f, 1), 3, startCell, scatterCorner);
-        this.speed = 3;
+        this(3, startCell, scatterCorner);
+    }
+
+    /**
+     * ✅ Avec un id explicite (plusieurs Clyde dans une partie à N fantômes)
+     */
+    public Clyde(int id, Cell startCell, Cell scatterCorner) {
+        super("Clyde", new Color(1, 0.8f, 0.5f, 1), id, startCell, scatterCorner);
+        setSpeedMode(SpeedMode.SLOW);
 
     }
 
@@ -3,7 +3,9 @@ package com.pacman.game.model.ghost;
 import com.badlogic.gdx.graphics.Color;
 import com.pacman.game.model.Cell;
 import com.pacman.game.model.Direction;
+import com.pacman.game.model.JunctionGraph;
 import com.pacman.game.model.Maze;
+import com.pacman.game.model.Motion;
 import com.pacman.game.model.Pacman;
 
 import java.util.List;
@@ -13,31 +15,34 @@ import java.util.List;
  * All ghosts inherit from this
  */
 public abstract class Ghost {
-    // ✅ SPEED MODES
+    // ✅ SPEED MODES (multiplicateur de BASE_SPEED)
     public enum SpeedMode {
-        SLOW(3),      // Moves every 3 frames
-        NORMAL(1),    // Moves every frame
-        FAST(0.5f);   // Moves twice per frame (advanced)
+        SLOW(1f / 3),   // 1/3 de la vitesse de base
+        NORMAL(1f),     // Vitesse de base
+        FAST(2f);       // Deux fois plus vite
 
-        public float frameskip;
+        public final float multiplier;
 
-        SpeedMode(float frameskip) {
-            this.frameskip = frameskip;
+        SpeedMode(float multiplier) {
+            this.multiplier = multiplier;
         }
     }
 
+    // ✅ Vitesse de base en cellules par seconde
+    public static final float BASE_SPEED = 7.5f;
+
     public SpeedMode speedMode = SpeedMode.NORMAL;
 
+    // ✅ Vitesse effective en cellules par seconde (fractions possibles : 2.5 = 2 cellules et demie / s)
+    public float speed = BASE_SPEED;
+
     /**
      * ✅ Change speed mode
      */
     public void setSpeedMode(SpeedMode mode) {
         this.speedMode = mode;
-        this.speed = (int) mode.frameskip;
+        this.speed = BASE_SPEED * mode.multiplier;
     }
-    // ✅ ADD SPEED
-    public int speed = 1;  // 1 = normal, 2 = double speed, 0.5 = half speed
-    public int moveCounter = 0;  // Counter to skip frames
 
     // ═══════════════════════════════════════════════════════
     // IDENTITY
@@ -50,6 +55,11 @@ public abstract class Ghost {
     // POSITION & MOVEMENT
     // ═══════════════════════════════════════════════════════
     public Cell cell;
+    public final Motion motion = new Motion();  // ✅ Position pour le rendu interpolé
+
+    // ✅ Position sur le graphe des jonctions (gérée par GhostMovement ; null = à recalculer)
+    public JunctionGraph.Corridor corridor;
+    public float travelled;                     // cellules parcourues depuis corridor.from
     public Direction direction = Direction.UP;
     public Direction nextDirection = Direction.UP;
 
@@ -72,6 +82,7 @@ public abstract class Ghost {
     // ═══════════════════════════════════════════════════════
     public Cell targetCell;
     public Cell scatterCorner;
+    public Cell teamTarget;  // ✅ Cible imposée par GhostTeam en CHASE (null = comportement propre)
 
     /**
      * ✅ Constructor
@@ -83,23 +94,12 @@ public abstract class Ghost {
         this.cell = startCell;
         this.scatterCorner = corner;
         this.targetCell = startCell;
+        this.motion.snapTo(startCell);
     }
 
-    // ✅ Set speed
-    public void setSpeed(int speedLevel) {
-        this.speed = speedLevel;
-    }
-
-    /**
-     * ✅ Should ghost move this frame?
-     */
-    public boolean shouldMove() {
-        moveCounter++;
-        if (moveCounter >= speed) {
-            moveCounter = 0;
-            return true;  // Move!
-        }
-        return false;  // Skip this frame
+    // ✅ Set speed (cellules par seconde)
+    public void setSpeed(float cellsPerSecond) {
+        this.speed = cellsPerSecond;
     }
 
     // ═══════════════════════════════════════════════════════
@@ -126,7 +126,7 @@ public abstract class Ghost {
     public Cell getTarget(Pacman pacman, Maze maze) {
         switch (mode) {
             case CHASE:
-                return getChaseBehavior(pacman, maze);
+                return teamTarget != null ? teamTarget : getChaseBehavior(pacman, maze);
             case SCATTER:
                 return getScatterBehavior(maze);
             case FRIGHTENED:
@@ -142,6 +142,8 @@ public abstract class Ghost {
      * ✅ Main update loop
      */
     public void update(Pacman pacman, Maze maze) {
+        motion.beginTick();
+
         if (!isAlive) {
             updateRespawn();
             return;
@@ -183,6 +185,8 @@ public abstract class Ghost {
      */
     public void moveTo(Cell newCell) {
         this.cell = newCell;
+        this.corridor = null;
+        this.motion.snapTo(newCell);
     }
 
     /**
@@ -192,7 +196,7 @@ public abstract class Ghost {
         this.isAlive = false;
         this.mode = GhostMode.EATEN;
         this.respawnTimer = 0;
-        this.cell = ghostHouse;
+        moveTo(ghostHouse);
     }
 
     /**
@@ -227,6 +231,14 @@ public abstract class Ghost {
         this.targetCell = target;
     }
 
+    /**
+     * ✅ Cible de coordination (GhostTeam) ; null pour revenir au comportement du fantôme
+     */
+    public void setTeamTarget(Cell target) {
+        this.teamTarget = target;
+        if (target != null) this.targetCell = target;
+    }
+
     @Override
     public String toString() {
         return name + " at (" + cell.row + ", " + cell.col + ") [" + mode + "]";
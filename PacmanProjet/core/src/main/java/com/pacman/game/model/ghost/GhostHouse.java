@@ -5,10 +5,15 @@ import com.pacman.game.model.Maze;
 import com.pacman.game.model.ghost.Ghost;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * ✅ FLEXIBLE GHOST HOUSE - Any size!
+ *
+ * Représentation : rectangle [startRow..endRow] × [startCol..endCol] (borné au maze)
+ * + bitmask sur les ids de cellule (Cell.id = row * maze.cols + col).
+ * isInside / getCellAt / getCenterCell sont en O(1) : pas de parcours de liste.
  */
 public class GhostHouse {
 
@@ -24,6 +29,15 @@ public class GhostHouse {
     public List<Ghost> ghostsInside;
     public List<Cell> cells;
 
+    // ✅ Rectangle effectif (après bornage au maze)
+    private int startRow, startCol, endRow, endCol;
+
+    // ✅ Bitmask : bit Cell.id à 1 si la cellule est dans la maison
+    private final Maze maze;
+    private final int mazeCols;
+    private long[] insideMask;
+    private Cell centerCell;
+
     // ═══════════════════════════════════════════════════════
     // SPAWN CONTROL
     // ═══════════════════════════════════════════════════════
@@ -45,9 +59,11 @@ public class GhostHouse {
         this.centerCol = centerCol;
         this.width = width;
         this.height = height;
+        this.maze = maze;
+        this.mazeCols = maze.cols;
         this.ghostsInside = new ArrayList<>();
         this.cells = new ArrayList<>();
-        this.spawnTimers = new int[4];
+        this.spawnTimers = new int[4];       // agrandi à la demande (n'importe quel nombre de fantômes)
         this.spawnPositions = new Cell[4];
 
         // ✅ Build ghost house cells
@@ -61,17 +77,28 @@ public class GhostHouse {
      * ✅ Build ghost house from center with width/height
      */
     private void buildGhostHouse(Maze maze) {
-        int startRow = centerRow - (height / 2);
-        int startCol = centerCol - (width / 2);
-
-        for (int r = startRow; r < startRow + height; r++) {
-            for (int c = startCol; c < startCol + width; c++) {
-                if (r >= 0 && r < 31 && c >= 0 && c < 28) {
-                    cells.add(maze.getCellAt(r, c));
-                }
+        startRow = Math.max(0, centerRow - (height / 2));
+        startCol = Math.max(0, centerCol - (width / 2));
+        endRow = Math.min(maze.rows - 1, centerRow - (height / 2) + height - 1);
+        endCol = Math.min(maze.cols - 1, centerCol - (width / 2) + width - 1);
+
+        insideMask = new long[(maze.rows * maze.cols + 63) >>> 6];
+        for (int r = startRow; r <= endRow; r++) {
+            for (int c = startCol; c <= endCol; c++) {
+                Cell cell = maze.getCellAt(r, c);
+                if (cell == null) continue;
+                insideMask[cell.id >>> 6] |= 1L << cell.id;
+                cells.add(cell);
             }
         }
 
+        centerCell = maze.getCellAt(
+            Math.min(Math.max(centerRow, startRow), endRow),
+            Math.min(Math.max(centerCol, startCol), endCol));
+        if (centerCell == null && !cells.isEmpty()) {
+            centerCell = cells.get(cells.size() / 2);
+        }
+
         System.out.println("🏠 Ghost house built: " + width + "×" + height +
             " (" + cells.size() + " cells)");
     }
@@ -80,58 +107,56 @@ public class GhostHouse {
      * ✅ Define spawn positions
      */
     private void defineSpawnPositions() {
-        int startRow = centerRow - (height / 2);
-        int startCol = centerCol - (width / 2);
-
         // ✅ Blinky - top left
         spawnPositions[0] = getCellAt(startRow, startCol);
 
         // ✅ Pinky - top right
-        spawnPositions[1] = getCellAt(startRow, startCol + width - 1);
+        spawnPositions[1] = getCellAt(startRow, endCol);
 
         // ✅ Inky - bottom left
-        spawnPositions[2] = getCellAt(startRow + height - 1, startCol);
+        spawnPositions[2] = getCellAt(endRow, startCol);
 
         // ✅ Clyde - bottom right
-        spawnPositions[3] = getCellAt(startRow + height - 1, startCol + width - 1);
+        spawnPositions[3] = getCellAt(endRow, endCol);
     }
 
     /**
-     * ✅ Check if position is inside
+     * ✅ Check if position is inside - O(1) (un test de bit)
      */
     public boolean isInside(Cell cell) {
-        return cells.contains(cell);
+        if (cell == null) return false;
+        return isInside(cell.row, cell.col);
+    }
+
+    public boolean isInside(int row, int col) {
+        if (row < startRow || row > endRow || col < startCol || col > endCol) return false;
+        int id = row * mazeCols + col;
+        return (insideMask[id >>> 6] & (1L << id)) != 0;
     }
 
     /**
      * ✅ Get center cell
      */
     public Cell getCenterCell() {
-        for (Cell c : cells) {
-            if (c.row == centerRow && c.col == centerCol) {
-                return c;
-            }
-        }
-        return cells.get(cells.size() / 2);
+        return centerCell;
     }
 
     /**
      * ✅ Get spawn position for ghost
      */
     public Cell getSpawnPosition(int ghostId) {
-        if (spawnPositions[ghostId] != null) {
+        if (ghostId < spawnPositions.length && spawnPositions[ghostId] != null) {
             return spawnPositions[ghostId];
         }
+        // Au-delà des 4 coins : répartir les fantômes sur les cellules de la maison
+        if (!cells.isEmpty()) {
+            return cells.get((ghostId * 7) % cells.size());
+        }
         return getCenterCell();
     }
 
     private Cell getCellAt(int row, int col) {
-        for (Cell c : cells) {
-            if (c.row == row && c.col == col) {
-                return c;
-            }
-        }
-        return getCenterCell();
+        return isInside(row, col) ? maze.getCellAt(row, col) : getCenterCell();
     }
 
     /**
@@ -141,6 +166,9 @@ public class GhostHouse {
         if (!ghostsInside.contains(ghost)) {
             ghostsInside.add(ghost);
             ghost.moveTo(getSpawnPosition(ghost.id));
+            if (ghost.id >= spawnTimers.length) {
+                spawnTimers = Arrays.copyOf(spawnTimers, Math.max(spawnTimers.length * 2, ghost.id + 1));
+            }
             spawnTimers[ghost.id] = 0;
             System.out.println("👻 " + ghost.name + " in ghost house");
         }
@@ -172,7 +200,7 @@ public class GhostHouse {
      * ✅ Check if should exit
      */
     public boolean shouldGhostExit(Ghost ghost) {
-        return spawnTimers[ghost.id] >= SPAWN_DELAY;
+        return ghost.id < spawnTimers.length && spawnTimers[ghost.id] >= SPAWN_DELAY;
     }
 
     public List<Ghost> getGhostsInside() {
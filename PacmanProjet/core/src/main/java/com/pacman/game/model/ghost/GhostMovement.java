@@ -0,0 +1,186 @@
+package com.pacman.game.model.ghost;
+
+import com.pacman.game.model.Cell;
+import com.pacman.game.model.FlowFields;
+import com.pacman.game.model.JunctionGraph;
+import com.pacman.game.model.JunctionGraph.Corridor;
+import com.pacman.game.model.Maze;
+import com.pacman.game.model.Pacman;
+
+import java.util.Random;
+
+/**
+ * ✅ MOTEUR DE DÉPLACEMENT DES FANTÔMES
+ *
+ * Chaque fantôme est sur un couloir du JunctionGraph avec une distance parcourue.
+ * Par tick : travelled += speed × dt (un compteur), puis la position rendue est
+ * lue dans corridor.path. Les décisions n'ont lieu qu'en arrivant à une jonction :
+ *
+ *   règle classique : pas de demi-tour, prendre la sortie qui minimise
+ *   (longueur du couloir + distance de Manhattan de son extrémité à la cible),
+ *   ou directement le nombre de pas si la cible est sur ce couloir.
+ *   FRIGHTENED : sortie aléatoire (toujours sans demi-tour).
+ *
+ * La cible (getTarget) n'est donc calculée qu'aux jonctions, pas à chaque tick.
+ *
+ * Avec des FlowFields, la sortie est d'abord lue dans le champ de flux de la cible
+ * (premier pas du plus court chemin, O(1), un BFS partagé par cible) ; la règle
+ * ci-dessus ne sert plus que si ce pas est le demi-tour interdit.
+ *
+ * La distance "extrémité → cible" est une estimation remplaçable (DistanceEstimate) :
+ * Manhattan par défaut (comportement arcade, peut tourner en rond dans un labyrinthe parfait),
+ * ou une vraie distance dans le labyrinthe si un champ de distances est disponible.
+ */
+public class GhostMovement {
+
+    /**
+     * ✅ Estimation de la distance d'une cellule à la cible
+     */
+    public interface DistanceEstimate {
+        int estimate(Cell from, Cell target);
+    }
+
+    private final JunctionGraph graph;
+    private final Random random = new Random();
+    private DistanceEstimate distanceEstimate = Cell::manhattanDistance;
+    private FlowFields flowFields;
+
+    public GhostMovement(JunctionGraph graph) {
+        this.graph = graph;
+    }
+
+    public GhostMovement(Maze maze) {
+        this(new JunctionGraph(maze));
+    }
+
+    /**
+     * ✅ Avancer un fantôme d'un tick
+     */
+    public void step(Ghost ghost, Pacman pacman, float dt) {
+        if (!ghost.isAlive || ghost.mode == Ghost.GhostMode.WAITING || ghost.cell == null) return;
+
+        if (ghost.corridor == null && !enterGraph(ghost, pacman)) return;
+
+        ghost.travelled += ghost.speed * dt;
+        while (ghost.travelled >= ghost.corridor.length) {
+            ghost.travelled -= ghost.corridor.length;
+            Corridor next = choose(ghost, ghost.corridor.to, ghost.corridor.reverse, pacman);
+            if (next == null) {
+                ghost.travelled = ghost.corridor.length;  // cul-de-sac isolé : on reste au bout
+                break;
+            }
+            ghost.corridor = next;
+        }
+
+        place(ghost);
+    }
+
+    /**
+     * ✅ Rattacher un fantôme au graphe (spawn, téléportation)
+     */
+    private boolean enterGraph(Ghost ghost, Pacman pacman) {
+        Cell at = ghost.cell;
+        if (graph.isNode(at)) {
+            Corridor first = choose(ghost, at, null, pacman);
+            if (first == null) return false;
+            ghost.corridor = first;
+            ghost.travelled = 0f;
+            return true;
+        }
+
+        Corridor corridor = graph.corridorOf(at);
+        if (corridor == null) return false;  // cellule sans passage
+
+        // Sur un couloir : partir dans le sens dont l'extrémité est la plus proche de la cible
+        Cell target = ghost.getTarget(pacman, graph.getMaze());
+        Corridor chosen = corridor;
+        if (target != null && corridor.reverse != null
+            && corridor.reverse.to.manhattanDistance(target) < corridor.to.manhattanDistance(target)) {
+            chosen = corridor.reverse;
+        }
+        ghost.corridor = chosen;
+        ghost.travelled = graph.stepsAlong(chosen, at);
+        return true;
+    }
+
+    /**
+     * ✅ Décision à une jonction
+     */
+    private Corridor choose(Ghost ghost, Cell node, Corridor forbidden, Pacman pacman) {
+        Corridor[] exits = graph.exits(node);
+        if (exits.length == 0) return null;
+        if (exits.length == 1) return exits[0];  // impasse : demi-tour obligatoire
+
+        if (ghost.mode == Ghost.GhostMode.FRIGHTENED) {
+            int start = random.nextInt(exits.length);
+            for (int i = 0; i < exits.length; i++) {
+                Corridor exit = exits[(start + i) % exits.length];
+                if (exit != forbidden) return exit;
+            }
+        }
+
+        Cell target = ghost.getTarget(pacman, graph.getMaze());
+
+        // Plus court chemin partagé : la sortie qui commence par le pas indiqué par le champ
+        if (flowFields != null && target != null) {
+            Cell step = flowFields.toward(target).next(node);
+            for (Corridor exit : exits) {
+                if (exit != forbidden && exit.path[0] == step) return exit;
+            }
+        }
+
+        Corridor best = null;
+        int bestCost = Integer.MAX_VALUE;
+        for (Corridor exit : exits) {
+            if (exit == forbidden) continue;
+            int cost = cost(exit, target);
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = exit;
+            }
+        }
+        return best != null ? best : forbidden;
+    }
+
+    private int cost(Corridor exit, Cell target) {
+        if (target == null) return exit.length;
+        int along = graph.stepsAlong(exit, target);
+        if (along >= 0) return along;
+        return exit.length + distanceEstimate.estimate(exit.to, target);
+    }
+
+    /**
+     * ✅ Position (cellule + décalage) à partir de la distance parcourue sur le couloir
+     */
+    private void place(Ghost ghost) {
+        Corridor corridor = ghost.corridor;
+        int k = (int) ghost.travelled;
+        float fraction = ghost.travelled - k;
+
+        Cell here = corridor.cellAt(k);
+        Cell ahead = corridor.cellAt(k + 1);
+        if (fraction < 0.5f || k >= corridor.length) {
+            ghost.cell = here;
+            ghost.motion.place(here, ahead, fraction);
+        } else {
+            ghost.cell = ahead;
+            ghost.motion.place(ahead, here, fraction - 1f);
+        }
+    }
+
+    public void setFlowFields(FlowFields flowFields) {
+        this.flowFields = flowFields;
+    }
+
+    public FlowFields getFlowFields() {
+        return flowFields;
+    }
+
+    public void setDistanceEstimate(DistanceEstimate distanceEstimate) {
+        this.distanceEstimate = distanceEstimate;
+    }
+
+    public JunctionGraph getGraph() {
+        return graph;
+    }
+}
@@ -1,59 +1,113 @@
 package com.pacman.game.model.ghost;
 
 import com.pacman.game.model.Cell;
-import com.pacman.game.model.Direction;
 import com.pacman.game.model.Maze;
 import com.pacman.game.model.Pacman;
+
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * ✅ GHOST TEAM - Coordinate attacks
+ *
+ * Planificateur par tick, coût indépendant du nombre de fantômes :
+ * 1. Un BFS depuis Pacman → distance de chaque fantôme à Pacman (leader = le plus proche)
+ * 2. Un BFS multi-sources depuis tous les fantômes → distance au fantôme le plus proche
+ *    pour chaque cellule (sert à prédire la fuite de Pacman)
+ * 3. Direction de fuite + cellule de blocage calculées une fois, puis cibles assignées à tous
+ *
+ * Les tableaux (distances, file) sont indexés par Cell.id et réutilisés d'un tick à l'autre ;
+ * un BFS n'est relancé que si ses sources (cellule de Pacman, cellules des fantômes) ont changé.
  */
 public class GhostTeam {
 
+    private static final int BLOCKING_STEPS = 3;
+
     private List<Ghost> ghosts;
     private Pacman pacman;
     private Maze maze;
 
+    // ✅ Buffers réutilisés (taille maze.size())
+    private final int[] fromPacman;
+    private final int[] fromGhosts;
+    private final int[] queue;
+    private int[] lastGhostSources = new int[0];
+    private int lastPacmanId = -1;
+
     public GhostTeam(List<Ghost> ghosts, Pacman pacman, Maze maze) {
         this.ghosts = ghosts;
         this.pacman = pacman;
         this.maze = maze;
+        this.fromPacman = new int[maze.size()];
+        this.fromGhosts = new int[maze.size()];
+        this.queue = new int[maze.size()];
     }
 
     /**
      * ✅ Coordinated attack strategy
      */
     public void coordinatedAttack() {
-        if (ghosts.size() < 2) return;
+        if (ghosts.size() < 2 || pacman.currentCell == null) return;
+
+        // 1. Distances à Pacman (un seul BFS pour tous les fantômes)
+        if (pacman.currentCell.id != lastPacmanId) {
+            lastPacmanId = pacman.currentCell.id;
+            queue[0] = lastPacmanId;
+            bfs(fromPacman, 1);
+        }
 
-        // Find closest ghost to Pacman
         Ghost leader = findClosestGhost();
+        if (leader == null) return;
+
+        // 2. Distance au fantôme le plus proche, pour chaque cellule (BFS multi-sources)
+        int sources = 0;
+        for (Ghost ghost : ghosts) {
+            if (ghost.isAlive && ghost.cell != null) {
+                queue[sources++] = ghost.cell.id;
+            }
+        }
+        if (!Arrays.equals(queue, 0, sources, lastGhostSources, 0, lastGhostSources.length)) {
+            lastGhostSources = Arrays.copyOf(queue, sources);
+            bfs(fromGhosts, sources);
+        }
+
+        // 3. Fuite probable de Pacman → cellule à bloquer (partagée par tous les bloqueurs)
+        Cell blockingCell = calculateBlockingPosition(getPacmanEscapeCell());
 
         for (Ghost ghost : ghosts) {
             if (ghost == leader) {
                 // Leader: Direct chase
-                ghost.setMode(Ghost.GhostMode.CHASE);
+                if (ghost.mode == Ghost.GhostMode.SCATTER) {
+                    ghost.setMode(Ghost.GhostMode.CHASE);
+                }
+                ghost.setTeamTarget(null);
             } else {
                 // Blockers: Intercept escape route
-                Cell blockingPos = calculateBlockingPosition(ghost);
-                ghost.setTarget(blockingPos);
+                ghost.setTeamTarget(blockingCell != null ? blockingCell : ghost.cell);
             }
         }
     }
 
+    /**
+     * ✅ Distance (dans le labyrinthe) d'un fantôme à Pacman, lue dans le BFS du tick ; -1 si inconnue
+     */
+    public int distanceToPacman(Ghost ghost) {
+        if (ghost.cell == null || ghost.cell.id < 0) return -1;
+        return fromPacman[ghost.cell.id];
+    }
+
     /**
      * ✅ Find ghost closest to Pacman
      */
     private Ghost findClosestGhost() {
-        Ghost closest = ghosts.get(0);
+        Ghost closest = null;
         int minDistance = Integer.MAX_VALUE;
 
         for (Ghost ghost : ghosts) {
             if (!ghost.isAlive) continue;
 
-            int distance = maze.mazeDistance(ghost.cell, pacman.currentCell);
-            if (distance < minDistance) {
+            int distance = distanceToPacman(ghost);
+            if (distance >= 0 && distance < minDistance) {
                 minDistance = distance;
                 closest = ghost;
             }
@@ -63,76 +117,66 @@ public class GhostTeam {
     }
 
     /**
-     * ✅ Calculate blocking position
+     * ✅ Predict Pacman's escape: voisin accessible le plus loin de tout fantôme
      */
-    private Cell calculateBlockingPosition(Ghost ghost) {
-        // Get Pacman's likely escape direction
-        Direction escapeDir = getPacmanEscapeDirection();
-
-        // Get cell 2-3 moves ahead in that direction
-        Cell blockingCell = getPacmanCellInDirection(escapeDir, 3);
-
-        return blockingCell != null ? blockingCell : ghost.cell;
-    }
-
-    /**
-     * ✅ Predict Pacman's escape direction
-     */
-    private Direction getPacmanEscapeDirection() {
-        Ghost closest = findClosestGhost();
+    private Cell getPacmanEscapeCell() {
+        Cell escape = null;
         int maxDistance = Integer.MIN_VALUE;
-        Direction escapeDir = Direction.UP;
-
-        for (Direction dir : Direction.values()) {
-            Cell nextCell = getNextCellInDirection(pacman.currentCell, dir);
-            if (nextCell != null) {
-                int distance = maze.mazeDistance(nextCell, closest.cell);
-                if (distance > maxDistance) {
-                    maxDistance = distance;
-                    escapeDir = dir;
-                }
+
+        for (Cell next : pacman.currentCell.linkedCells()) {
+            int distance = fromGhosts[next.id];
+            if (distance < 0) distance = Integer.MAX_VALUE;  // aucun fantôme ne peut l'atteindre
+            if (distance > maxDistance) {
+                maxDistance = distance;
+                escape = next;
             }
         }
 
-        return escapeDir;
+        return escape;
     }
 
     /**
-     * ✅ Get cell N steps ahead in direction
+     * ✅ Calculate blocking position: quelques cases plus loin dans la direction de fuite
      */
-    private Cell getPacmanCellInDirection(Direction dir, int steps) {
-        Cell current = pacman.currentCell;
+    private Cell calculateBlockingPosition(Cell escape) {
+        if (escape == null) return null;
 
-        for (int i = 0; i < steps; i++) {
-            Cell next = getNextCellInDirection(current, dir);
-            if (next != null) {
-                current = next;
-            } else {
-                break;
-            }
+        int dRow = escape.row - pacman.currentCell.row;
+        int dCol = escape.col - pacman.currentCell.col;
+        Cell current = escape;
+
+        for (int i = 1; i < BLOCKING_STEPS; i++) {
+            Cell next = maze.getCellAt(current.row + dRow, current.col + dCol);
+            if (next == null || !current.isLinked(next)) break;
+            current = next;
         }
 
         return current;
     }
 
     /**
-     * ✅ Get next cell in given direction
+     * ✅ BFS depuis queue[0..sources) : remplit dist (-1 = inatteignable)
      */
-    private Cell getNextCellInDirection(Cell cell, Direction direction) {
-        if (direction == null) return null;
-
-        switch (direction) {
-            case UP:
-                return cell.row > 0 ? maze.getCellAt(cell.row - 1, cell.col) : null;
-            case DOWN:
-                return cell.row < 30 ? maze.getCellAt(cell.row + 1, cell.col) : null;
-            case LEFT:
-                return cell.col > 0 ? maze.getCellAt(cell.row, cell.col - 1) : null;
-            case RIGHT:
-                return cell.col < 27 ? maze.getCellAt(cell.row, cell.col + 1) : null;
-            default:
-                return null;
+    private void bfs(int[] dist, int sources) {
+        Arrays.fill(dist, -1);
+        int head = 0, tail = 0;
+        for (int i = 0; i < sources; i++) {
+            int id = queue[i];
+            if (dist[id] < 0) {
+                dist[id] = 0;
+                queue[tail++] = id;
+            }
+        }
+
+        while (head < tail) {
+            Cell current = maze.getCell(queue[head++]);
+            int next = dist[current.id] + 1;
+            for (Cell neighbor : current.linkedCells()) {
+                if (dist[neighbor.id] < 0) {
+                    dist[neighbor.id] = next;
+                    queue[tail++] = neighbor.id;
+                }
+            }
         }
     }
 }
-
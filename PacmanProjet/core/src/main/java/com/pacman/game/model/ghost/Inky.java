@@ -16,8 +16,15 @@ public class Inky extends Ghost {
     private Random random = new Random();
 
     public Inky(Cell startCell, Cell scatterCorner) {
-        super("Inky", new Color(0, 1, 1, 1), 2, startCell, scatterCorner);
-        this.speed = 3;
+        this(2, startCell, scatterCorner);
+    }
+
+    /**
+     * ✅ Avec un id explicite (plusieurs Inky dans une partie à N fantômes)
+     */
+    public Inky(int id, Cell startCell, Cell scatterCorner) {
+        super("Inky", new Color(0, 1, 1, 1), id, startCell, scatterCorner);
+        setSpeedMode(SpeedMode.SLOW);
 
     }
 
@@ -30,10 +37,10 @@ public class Inky extends Ghost {
             // Pick random corner
             int corner = random.nextInt(4);
             switch (corner) {
-                case 0: return maze.getCellAt(0, 0);      // Top-left
-                case 1: return maze.getCellAt(0, 27);     // Top-right
-                case 2: return maze.getCellAt(30, 0);     // Bottom-left
-                case 3: return maze.getCellAt(30, 27);    // Bottom-right
+                case 0: return maze.getCellAt(0, 0);                          // Top-left
+                case 1: return maze.getCellAt(0, maze.cols - 1);              // Top-right
+                case 2: return maze.getCellAt(maze.rows - 1, 0);              // Bottom-left
+                case 3: return maze.getCellAt(maze.rows - 1, maze.cols - 1);  // Bottom-right
                 default: return pacman.currentCell;
             }
         }
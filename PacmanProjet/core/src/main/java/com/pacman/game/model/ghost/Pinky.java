@@ -14,8 +14,15 @@ import com.pacman.game.model.Pacman;
 public class Pinky extends Ghost {
 
     public Pinky(Cell startCell, Cell scatterCorner) {
-        super("Pinky", new Color(1, 0.75f, 0.8f, 1), 1, startCell, scatterCorner);
-        this.speed = 3;
+        this(1, startCell, scatterCorner);
+    }
+
+    /**
+     * ✅ Avec un id explicite (plusieurs Pinky dans une partie à N fantômes)
+     */
+    public Pinky(int id, Cell startCell, Cell scatterCorner) {
+        super("Pinky", new Color(1, 0.75f, 0.8f, 1), id, startCell, scatterCorner);
+        setSpeedMode(SpeedMode.SLOW);
 
     }
 
@@ -47,11 +54,11 @@ public class Pinky extends Ghost {
             case UP:
                 return cell.row > 0 ? maze.getCellAt(cell.row - 1, cell.col) : cell;
             case DOWN:
-                return cell.row < 30 ? maze.getCellAt(cell.row + 1, cell.col) : cell;
+                return cell.row < maze.rows - 1 ? maze.getCellAt(cell.row + 1, cell.col) : cell;
             case LEFT:
                 return cell.col > 0 ? maze.getCellAt(cell.row, cell.col - 1) : cell;
             case RIGHT:
-                return cell.col < 27 ? maze.getCellAt(cell.row, cell.col + 1) : cell;
+                return cell.col < maze.cols - 1 ? maze.getCellAt(cell.row, cell.col + 1) : cell;
             default:
                 return cell;
         }
@@ -6,34 +6,39 @@ import com.pacman.game.model.ghost.Ghost;
 import com.pacman.game.model.ghost.GhostHouse;
 import java.util.List;
 
+/**
+ * Dessine maison et fantômes dans le ShapeRenderer partagé (passe Filled de RenderPipeline)
+ * Aucune allocation par image : couleurs constantes ou setColor(r, g, b, a)
+ */
 public class GhostRenderer {
 
-    private ShapeRenderer shapeRenderer;
     private static final int CELL_SIZE = 32;
+    private static final Color HOUSE_BACKGROUND = new Color(0.2f, 0, 0.4f, 0.7f);
+    private static final Color HOUSE_BORDER = new Color(1, 0.5f, 0, 1);
+    private static final Color EATEN_COLOR = new Color(1, 1, 0, 1);
 
-    public GhostRenderer() {
-        this.shapeRenderer = new ShapeRenderer();
+    private final ShapeRenderer shapeRenderer;
+
+    public GhostRenderer(ShapeRenderer shapeRenderer) {
+        this.shapeRenderer = shapeRenderer;
     }
 
     /**
      * ✅ RENDER GHOST HOUSE - No setLineWidth()!
      */
     public void renderGhostHouse(GhostHouse house, float offsetX, float offsetY) {
-        //shapeRenderer.setProjectionMatrix(null);
 
         float startX = offsetX + (house.getCenterCol() - house.getWidth() / 2) * CELL_SIZE;
         float startY = offsetY + (house.getCenterRow() - house.getHeight() / 2) * CELL_SIZE;
         float width = house.getWidth() * CELL_SIZE;
         float height = house.getHeight() * CELL_SIZE;
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
         // Background
-        shapeRenderer.setColor(new Color(0.2f, 0, 0.4f, 0.7f));
+        shapeRenderer.setColor(HOUSE_BACKGROUND);
         shapeRenderer.rect(startX, startY, width, height);
 
         // Border (thick lines using rectangles)
-        shapeRenderer.setColor(new Color(1, 0.5f, 0, 1));
+        shapeRenderer.setColor(HOUSE_BORDER);
         float borderThickness = 3;
 
         // Top
@@ -44,30 +49,23 @@ public class GhostRenderer {
         shapeRenderer.rect(startX, startY, borderThickness, height);
         // Right
         shapeRenderer.rect(startX + width - borderThickness, startY, borderThickness, height);
-
-        shapeRenderer.end();
     }
 
     /**
      * ✅ Render all ghosts
      */
-    public void render(List<Ghost> ghosts, GhostHouse house, float offsetX, float offsetY) {
-        //shapeRenderer.setProjectionMatrix(null);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
+    public void render(List<Ghost> ghosts, GhostHouse house, float offsetX, float offsetY, float alpha) {
         for (Ghost ghost : ghosts) {
-            renderGhost(ghost, offsetX, offsetY);
+            renderGhost(ghost, offsetX, offsetY, alpha);
         }
-
-        shapeRenderer.end();
     }
 
     /**
      * ✅ Render single ghost
      */
-    private void renderGhost(Ghost ghost, float offsetX, float offsetY) {
-        float x = offsetX + (ghost.cell.col * CELL_SIZE) + (CELL_SIZE / 2);
-        float y = offsetY + (ghost.cell.row * CELL_SIZE) + (CELL_SIZE / 2);
+    private void renderGhost(Ghost ghost, float offsetX, float offsetY, float alpha) {
+        float x = offsetX + (ghost.motion.renderCol(alpha) * CELL_SIZE) + (CELL_SIZE / 2);
+        float y = offsetY + (ghost.motion.renderRow(alpha) * CELL_SIZE) + (CELL_SIZE / 2);
         float radius = CELL_SIZE / 2 - 2;
 
         switch (ghost.mode) {
@@ -79,18 +77,14 @@ public class GhostRenderer {
                 shapeRenderer.setColor(Color.BLUE);
                 break;
             case EATEN:
-                shapeRenderer.setColor(new Color(1, 1, 0, 1));
+                shapeRenderer.setColor(EATEN_COLOR);
                 radius = CELL_SIZE / 4;
                 break;
             default:
-                shapeRenderer.setColor(new Color(ghost.color.r, ghost.color.g, ghost.color.b, 0.5f));
+                shapeRenderer.setColor(ghost.color.r, ghost.color.g, ghost.color.b, 0.5f);
                 break;
         }
 
         shapeRenderer.circle(x, y, radius);
     }
-
-    public void dispose() {
-        shapeRenderer.dispose();
-    }
 }
@@ -2,8 +2,6 @@ package com.pacman.game.renderers;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.math.Matrix4;
 import com.pacman.game.model.Maze;
 import com.pacman.game.model.Cell;
 
@@ -11,29 +9,20 @@ public class MazeRenderer {
     private static final int CELL_SIZE = 32;
     private static final Color WALL_COLOR = Color.BLUE;
     private static final Color GHOST_HOUSE_COLOR = Color.RED;
-    private static final float WALL_THICKNESS = 2.0f;
+    public static final float WALL_THICKNESS = 2.0f;  // appliquée par RenderPipeline avant la passe Line
 
-    private ShapeRenderer shapeRenderer;
+    private final ShapeRenderer shapeRenderer;
 
-    public MazeRenderer() {
-        this.shapeRenderer = new ShapeRenderer();
+    public MazeRenderer(ShapeRenderer shapeRenderer) {
+        this.shapeRenderer = shapeRenderer;
     }
 
-    public void render(Maze maze) {
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        Gdx.gl.glLineWidth(WALL_THICKNESS);
-
-        // ✅ CALCULATE MAZE DIMENSIONS
-        int mazeWidth = maze.cols * CELL_SIZE;   // 28 * 32 = 896
-        int mazeHeight = maze.rows * CELL_SIZE;  // 31 * 32 = 992
-
-        // ✅ SCREEN DIMENSIONS (LibGDX window)
-        float screenWidth = Gdx.graphics.getWidth();   // e.g., 1024
-        float screenHeight = Gdx.graphics.getHeight(); // e.g., 768
-
-        // ✅ CALCULATE CENTER OFFSET
-        float offsetX = (screenWidth - mazeWidth) / 2.0f;
-        float offsetY = (screenHeight - mazeHeight) / 2.0f;
+    /**
+     * ✅ Render maze walls at the same offset as pellets/Pacman/ghosts (computed by GameScreen)
+     * Appelé dans la passe Line du ShapeRenderer partagé (pas de begin/end ici)
+     */
+    public void render(Maze maze, float offsetX, float offsetY) {
+        shapeRenderer.setColor(WALL_COLOR);
 
 //        System.out.println("Screen: " + screenWidth + "×" + screenHeight);
 //        System.out.println("Maze: " + mazeWidth + "×" + mazeHeight);
@@ -79,69 +68,48 @@ public class MazeRenderer {
 
                 // ✅ NORTH wall
                 if (north == null || !cell.isLinked(north)) {
-                    Color wallColor = WALL_COLOR;
 //                    if (isGhostHouse || northInGH) {
 //                        wallColor = GHOST_HOUSE_COLOR;
 //                    }
 //                    if (isTunnel) {
 //                        wallColor = Color.GREEN;
 //                    }
-                    shapeRenderer.setColor(wallColor);
                     shapeRenderer.line(x, y + CELL_SIZE, x + CELL_SIZE, y + CELL_SIZE);
                 }
 
                 // ✅ EAST wall
                 if (east == null || !cell.isLinked(east)) {
-                    Color wallColor = WALL_COLOR;
 //                    if (isGhostHouse || eastInGH) {
 //                        wallColor = GHOST_HOUSE_COLOR;
 //                    }
 //                    if (isTunnel) {
 //                        wallColor = Color.GREEN;
 //                    }
-                    shapeRenderer.setColor(wallColor);
                     shapeRenderer.line(x + CELL_SIZE, y, x + CELL_SIZE, y + CELL_SIZE);
                 }
 
                 // ✅ SOUTH wall
                 if (south == null || !cell.isLinked(south)) {
-                    Color wallColor = WALL_COLOR;
 //                    if (isGhostHouse || southInGH) {
 //                        wallColor = GHOST_HOUSE_COLOR;
 //                    }
 //                    if (isTunnel) {
 //                        wallColor = Color.GREEN;
 //                    }
-                    shapeRenderer.setColor(wallColor);
                     shapeRenderer.line(x, y, x + CELL_SIZE, y);
                 }
 
                 // ✅ WEST wall
                 if (west == null || !cell.isLinked(west)) {
-                    Color wallColor = WALL_COLOR;
 //                    if (isGhostHouse || westInGH) {
 //                        wallColor = GHOST_HOUSE_COLOR;
 //                    }W
 //                    if (isTunnel) {
 //                        wallColor = Color.GREEN;
 //                    }
-                    shapeRenderer.setColor(wallColor);
                     shapeRenderer.line(x, y, x, y + CELL_SIZE);
                 }
             }
         }
-
-        shapeRenderer.end();
-        Gdx.gl.glLineWidth(1.0f);
-    }
-
-    public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
-    }
-
-    public void setProjectionMatrix(Matrix4 combined) {
-        shapeRenderer.setProjectionMatrix(combined);
     }
 }
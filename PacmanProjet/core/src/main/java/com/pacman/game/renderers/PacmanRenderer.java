@@ -8,16 +8,17 @@ import com.pacman.game.model.Direction;
 /**
  * Renders Pacman on screen
  * Draws a yellow circle with rotation based on direction
+ * (dans la passe Filled du ShapeRenderer partagé de RenderPipeline)
  */
 public class PacmanRenderer {
     private static final int CELL_SIZE = 32;
     private static final Color PACMAN_COLOR = Color.YELLOW;
     private static final float PACMAN_RADIUS = 13.0f;  // Slightly less than half cell (16)
 
-    private ShapeRenderer shapeRenderer;
+    private final ShapeRenderer shapeRenderer;
 
-    public PacmanRenderer() {
-        this.shapeRenderer = new ShapeRenderer();
+    public PacmanRenderer(ShapeRenderer shapeRenderer) {
+        this.shapeRenderer = shapeRenderer;
     }
 
     /**
@@ -27,32 +28,30 @@ public class PacmanRenderer {
      * @param pacman Pacman object
      * @param offsetX Camera offset X
      * @param offsetY Camera offset Y
+     * @param alpha Interpolation between the last two ticks (GameClock.alpha())
      */
-    public void render(Pacman pacman, float offsetX, float offsetY) {
+    public void render(Pacman pacman, float offsetX, float offsetY, float alpha) {
         if (pacman == null || pacman.currentCell == null) {
             return;
         }
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         shapeRenderer.setColor(PACMAN_COLOR);
 
-        float x = pacman.currentCell.col * CELL_SIZE + offsetX + CELL_SIZE / 2.0f;
-        float y = pacman.currentCell.row * CELL_SIZE + offsetY + CELL_SIZE / 2.0f;
+        float x = pacman.motion.renderCol(alpha) * CELL_SIZE + offsetX + CELL_SIZE / 2.0f;
+        float y = pacman.motion.renderRow(alpha) * CELL_SIZE + offsetY + CELL_SIZE / 2.0f;
         shapeRenderer.circle(x, y, PACMAN_RADIUS);  // ✅ Centered!
 
-        shapeRenderer.end();
-
         // Optional: Draw direction indicator (debug)
         // drawDirectionIndicator(pacman, x, y);
     }
 
     /**
      * Optional: Draw a line showing Pacman's direction (for debugging)
+     * À appeler pendant la passe Line
      */
     private void drawDirectionIndicator(Pacman pacman, float x, float y) {
         if (pacman == null) return;
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
         shapeRenderer.setColor(Color.WHITE);
 
         float lineLength = 8.0f;
@@ -77,19 +76,6 @@ public class PacmanRenderer {
         }
 
         shapeRenderer.line(x, y, endX, endY);
-        shapeRenderer.end();
     }
-
-    /**
-     * Dispose resources
-     */
-    public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
-    }
-
-
-
 }
 
@@ -1,42 +1,150 @@
 package com.pacman.game.renderers;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.pacman.game.model.GameState;
 import com.pacman.game.model.Cell;
 
+import java.nio.IntBuffer;
+
+/**
+ * ✅ COUCHE STATIQUE DES PELLETS
+ *
+ * Les pellets sont dessinés une seule fois dans une texture hors écran (FrameBuffer) à la création
+ * de la partie ; chaque image ne fait ensuite qu'un quad texturé (1 draw call, 4 sommets),
+ * quel que soit le nombre de pellets.
+ *
+ * Quand Pac-Man mange un pellet, seul le rectangle de sa cellule est effacé dans la couche
+ * (glScissor + glClear), d'après le journal GameState.eatenPellets : rien n'est redessiné.
+ */
 public class PelletRenderer {
     private static final int CELL_SIZE = 32;
     private static final Color PELLET_COLOR = Color.WHITE;
     private static final float PELLET_RADIUS = 2.0f;
-    private ShapeRenderer shapeRenderer;
+    private static final int PELLET_SEGMENTS = 6;  // 2 px de rayon : un hexagone suffit
+
+    private final ShapeRenderer shapeRenderer;
+    private final Matrix4 layerProjection = new Matrix4();
+
+    private FrameBuffer layer;
+    private float layerScale;          // pixels de la couche par unité monde (< 1 si le maze dépasse la taille max de texture)
+    private GameState builtFor;        // partie dont la couche est l'image
+    private int eatenCursor;           // entrées de builtFor.eatenPellets déjà effacées
 
-    public PelletRenderer() {
-        this.shapeRenderer = new ShapeRenderer();
+    public PelletRenderer(ShapeRenderer shapeRenderer) {
+        this.shapeRenderer = shapeRenderer;
     }
 
-    public void render(GameState gameState, float offsetX, float offsetY) {
-        if (gameState == null || gameState.pelletsRemaining == null) return;
+    /**
+     * ✅ Mettre la couche à jour (hors begin/end du ShapeRenderer partagé)
+     * Nouvelle partie → redessiner tous les pellets ; sinon effacer les cellules mangées depuis la dernière image
+     */
+    public void sync(GameState gameState, Matrix4 worldProjection) {
+        if (gameState == null || gameState.pellets == null) return;
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(PELLET_COLOR);
+        if (gameState != builtFor) {
+            rebuild(gameState, worldProjection);
+            return;
+        }
+        if (eatenCursor == gameState.eatenPelletCount) return;
 
-        for (Cell cell : gameState.pelletsRemaining) {
+        layer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+        while (eatenCursor < gameState.eatenPelletCount) {
+            Cell cell = gameState.maze.getCell(gameState.eatenPellets[eatenCursor++]);
             if (cell == null) continue;
+            int x0 = (int) Math.floor(cell.col * CELL_SIZE * layerScale);
+            int y0 = (int) Math.floor(cell.row * CELL_SIZE * layerScale);
+            int x1 = (int) Math.ceil((cell.col + 1) * CELL_SIZE * layerScale);
+            int y1 = (int) Math.ceil((cell.row + 1) * CELL_SIZE * layerScale);
+            Gdx.gl.glScissor(x0, y0, x1 - x0, y1 - y0);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        }
+        Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+        layer.end();
+    }
+
+    /**
+     * ✅ Dessiner la couche (1 quad) à l'offset du maze
+     */
+    public void render(SpriteBatch batch, float offsetX, float offsetY) {
+        if (layer == null || builtFor == null) return;
+
+        Texture texture = layer.getColorBufferTexture();
+        float width = builtFor.maze.cols * CELL_SIZE;
+        float height = builtFor.maze.rows * CELL_SIZE;
+        // Texture de FrameBuffer : origine en bas à gauche → retournement vertical
+        batch.draw(texture, offsetX, offsetY, width, height,
+            0, 0, texture.getWidth(), texture.getHeight(), false, true);
+    }
 
-            // ✅ CENTER PELLET IN CELL (add offset + half cell size)
-            float x = cell.col * CELL_SIZE + offsetX + CELL_SIZE / 2.0f;
-            float y = cell.row * CELL_SIZE + offsetY + CELL_SIZE / 2.0f;
+    /**
+     * ✅ Forcer un redessin complet à la prochaine image (ex : contexte GL perdu)
+     */
+    public void invalidate() {
+        builtFor = null;
+    }
+
+    private void rebuild(GameState gameState, Matrix4 worldProjection) {
+        float worldWidth = gameState.maze.cols * CELL_SIZE;
+        float worldHeight = gameState.maze.rows * CELL_SIZE;
+        layerScale = Math.min(1f, maxTextureSize() / Math.max(worldWidth, worldHeight));
+        int width = Math.max(1, (int) Math.ceil(worldWidth * layerScale));
+        int height = Math.max(1, (int) Math.ceil(worldHeight * layerScale));
 
-            shapeRenderer.circle(x, y, PELLET_RADIUS);
+        if (layer == null || layer.getWidth() != width || layer.getHeight() != height) {
+            if (layer != null) layer.dispose();
+            layer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            layer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
         }
 
+        layer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        layerProjection.setToOrtho2D(0, 0, worldWidth, worldHeight);
+        shapeRenderer.setProjectionMatrix(layerProjection);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(PELLET_COLOR);
+        for (int id = 0; id < gameState.pellets.length; id++) {
+            if (!gameState.pellets[id]) continue;
+            Cell cell = gameState.maze.getCell(id);
+            if (cell == null) continue;
+
+            // ✅ CENTER PELLET IN CELL (coordonnées locales à la couche, sans offset)
+            float x = cell.col * CELL_SIZE + CELL_SIZE / 2.0f;
+            float y = cell.row * CELL_SIZE + CELL_SIZE / 2.0f;
+            shapeRenderer.circle(x, y, PELLET_RADIUS, PELLET_SEGMENTS);
+        }
         shapeRenderer.end();
+        shapeRenderer.setProjectionMatrix(worldProjection);
+        layer.end();
+
+        builtFor = gameState;
+        eatenCursor = gameState.eatenPelletCount;  // déjà absents de la couche
+        System.out.println("🍒 Pellet layer built: " + width + "×" + height + " px, " + gameState.pelletCount + " pellets");
+    }
+
+    private static int maxTextureSize() {
+        IntBuffer value = BufferUtils.newIntBuffer(16);
+        Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_SIZE, value);
+        return value.get(0) > 0 ? value.get(0) : 2048;
     }
 
     public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
+        if (layer != null) {
+            layer.dispose();
+            layer = null;
         }
+        builtFor = null;
     }
 }
@@ -0,0 +1,127 @@
+package com.pacman.game.renderers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+import com.pacman.game.model.GameState;
+
+/**
+ * ✅ PIPELINE DE RENDU DU MONDE
+ *
+ * Un seul ShapeRenderer partagé par MazeRenderer, PelletRenderer, GhostRenderer et PacmanRenderer,
+ * primitives regroupées par type, de l'arrière vers l'avant :
+ *   1. Filled : fond de la maison
+ *   2. Sprite : couche statique des pellets (1 quad, voir PelletRenderer)
+ *   3. Filled : fantômes, Pac-Man
+ *   4. Line   : murs
+ * Soit 4 draw calls pour tout le monde, quelle que soit la taille du maze
+ * (plus un par MAX_VERTICES sommets sur les très grands mazes).
+ *
+ * Compteurs : un GLProfiler mesure draw calls / sommets / changements de shader ;
+ * les valeurs de l'image précédente (UI comprise) sont lues par beginFrame().
+ */
+public class RenderPipeline {
+
+    // Sommets par flush du ShapeRenderer (5000 par défaut) : un maze 31×28 complet tient en une passe
+    private static final int MAX_VERTICES = 30000;
+
+    private final ShapeRenderer shapes;
+    private final SpriteBatch batch;
+    private final Matrix4 projection = new Matrix4();
+    private final MazeRenderer mazeRenderer;
+    private final PelletRenderer pelletRenderer;
+    private final GhostRenderer ghostRenderer;
+    private final PacmanRenderer pacmanRenderer;
+
+    private final GLProfiler profiler;
+    private int drawCalls;
+    private int vertices;
+    private int shaderSwitches;
+
+    public RenderPipeline() {
+        this.shapes = new ShapeRenderer(MAX_VERTICES);
+        this.shapes.setAutoShapeType(true);
+        this.batch = new SpriteBatch(1);  // un seul quad : la couche des pellets
+        this.mazeRenderer = new MazeRenderer(shapes);
+        this.pelletRenderer = new PelletRenderer(shapes);
+        this.ghostRenderer = new GhostRenderer(shapes);
+        this.pacmanRenderer = new PacmanRenderer(shapes);
+        this.profiler = new GLProfiler(Gdx.graphics);
+    }
+
+    /**
+     * ✅ Début d'image : relever les compteurs de l'image précédente puis les remettre à zéro
+     */
+    public void beginFrame() {
+        if (!profiler.isEnabled()) return;
+        drawCalls = profiler.getDrawCalls();
+        vertices = (int) profiler.getVertexCount().total;
+        shaderSwitches = profiler.getShaderSwitches();
+        profiler.reset();
+    }
+
+    /**
+     * ✅ Dessiner le monde (tout sauf l'UI) : mise à jour de la couche des pellets, puis les 4 passes
+     */
+    public void render(GameState gameState, float offsetX, float offsetY, float alpha) {
+        pelletRenderer.sync(gameState, projection);
+
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        ghostRenderer.renderGhostHouse(gameState.ghostHouse, offsetX, offsetY);
+        shapes.end();
+
+        batch.begin();
+        pelletRenderer.render(batch, offsetX, offsetY);
+        batch.end();
+
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        ghostRenderer.render(gameState.ghosts, gameState.ghostHouse, offsetX, offsetY, alpha);
+        pacmanRenderer.render(gameState.pacman, offsetX, offsetY, alpha);
+
+        Gdx.gl.glLineWidth(MazeRenderer.WALL_THICKNESS);
+        shapes.set(ShapeRenderer.ShapeType.Line);
+        mazeRenderer.render(gameState.maze, offsetX, offsetY);
+        shapes.end();
+        Gdx.gl.glLineWidth(1.0f);
+    }
+
+    public void setProjectionMatrix(Matrix4 combined) {
+        projection.set(combined);
+        shapes.setProjectionMatrix(projection);
+        batch.setProjectionMatrix(projection);
+    }
+
+    /**
+     * ✅ Contexte GL recréé : le contenu des FrameBuffers est perdu, redessiner la couche des pellets
+     */
+    public void invalidate() {
+        pelletRenderer.invalidate();
+    }
+
+    /**
+     * ✅ Activer/désactiver les compteurs (GLProfiler enveloppe Gdx.gl : coût nul quand désactivé)
+     */
+    public void setProfiling(boolean enabled) {
+        if (enabled) {
+            profiler.enable();
+            profiler.reset();
+        } else {
+            profiler.disable();
+        }
+        drawCalls = vertices = shaderSwitches = 0;
+    }
+
+    public boolean isProfiling() { return profiler.isEnabled(); }
+    public int getDrawCalls() { return drawCalls; }
+    public int getVertices() { return vertices; }
+    public int getShaderSwitches() { return shaderSwitches; }
+
+    public void dispose() {
+        profiler.disable();
+        pelletRenderer.dispose();
+        batch.dispose();
+        shapes.dispose();
+    }
+}
@@ -1,5 +1,6 @@
 package com.pacman.game.renderers;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -47,6 +48,20 @@ public class UIRenderer {
         batch.end();
     }
 
+    /**
+     * Overlay de debug (F3) : compteurs GL de l'image précédente, mesurés par RenderPipeline
+     */
+    public void renderStats(RenderPipeline pipeline, float screenWidth, float screenHeight) {
+        batch.begin();
+        font.setColor(Color.GREEN);
+        float x = screenWidth - 220;
+        font.draw(batch, "FPS: " + Gdx.graphics.getFramesPerSecond(), x, screenHeight - 50);
+        font.draw(batch, "Draw calls: " + pipeline.getDrawCalls(), x, screenHeight - 70);
+        font.draw(batch, "Vertices: " + pipeline.getVertices(), x, screenHeight - 90);
+        font.draw(batch, "Shader switches: " + pipeline.getShaderSwitches(), x, screenHeight - 110);
+        batch.end();
+    }
+
     public void dispose() {
         font.dispose();
         batch.dispose();
@@ -5,9 +5,9 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.Matrix4;
 
 import com.pacman.game.model.Cell;
+import com.pacman.game.model.GameClock;
 import com.pacman.game.model.Maze;
 import com.pacman.game.model.GameState;
 import com.pacman.game.model.Direction;
@@ -200,8 +200,9 @@ public class GameScreen implements Screen {
 
     // ✅ CONSTANTS
     private static final int CELL_SIZE = 32;
-    private static final int MAZE_ROWS = 31;
-    private static final int MAZE_COLS = 28;
+    private static final int FALLBACK_ROWS = 31;   // Taille du maze de secours (sinon : taille du maze reçu)
+    private static final int FALLBACK_COLS = 28;
+    private static final int GHOST_COUNT = GameState.DEFAULT_GHOST_COUNT;      // N'importe quel nombre (niveaux de stress : 32+)
 
     // ✅ INDIVIDUAL PADDING FOR EACH SIDE
     private static final int PADDING_TOP = 100;
@@ -218,17 +219,19 @@ public class GameScreen implements Screen {
     // ✅ API CLIENT
     private MazeApiClient mazeApiClient;
 
-    // ✅ RENDERERS
-    private MazeRenderer mazeRenderer;
-    private PacmanRenderer pacmanRenderer;
-    private PelletRenderer pelletRenderer;
+    // ✅ RENDERERS (monde : un ShapeRenderer partagé dans RenderPipeline ; UI : SpriteBatch)
+    private RenderPipeline renderPipeline;
     private UIRenderer uiRenderer;
-    //private GhostRenderer ghostRenderer;
+    private boolean showStats = false;  // F3 : overlay draw calls / sommets
 
     // ✅ CAMERA & OFFSET
     private OrthographicCamera camera;
     private float offsetX;
     private float offsetY;
+    private volatile boolean layoutDirty = true;  // maze chargé (taille connue) → recalculer offset/zoom
+
+    // ✅ FIXED TIMESTEP (simulation indépendante du FPS)
+    private final GameClock clock = new GameClock();
 
     // ✅ STATE
     private boolean mazeLoading = false;
@@ -251,14 +254,8 @@ public class GameScreen implements Screen {
         mazeApiClient = new MazeApiClient();
 
         // ✅ Initialize renderers
-        mazeRenderer = new MazeRenderer();
-        pacmanRenderer = new PacmanRenderer();
-        pelletRenderer = new PelletRenderer();
+        renderPipeline = new RenderPipeline();
         uiRenderer = new UIRenderer();
-        //ghostRenderer = new GhostRenderer();
-
-        Matrix4 projection = camera.combined;
-        mazeRenderer.setProjectionMatrix(projection);
 
         // ✅ Calculate offset and load level
         updateMazeOffset(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
@@ -267,18 +264,32 @@ public class GameScreen implements Screen {
 
     /**
      * ✅ UPDATE MAZE OFFSET WITH INDIVIDUAL PADDING
+     *
+     * Dimensions prises du maze chargé. Si le maze (+ padding) ne tient pas dans la fenêtre
+     * (ex : 100×100), la caméra dézoome : le monde fait screen × zoom pixels.
      */
     private void updateMazeOffset(int screenWidth, int screenHeight) {
-        int mazeWidth = MAZE_COLS * CELL_SIZE;
-        int mazeHeight = MAZE_ROWS * CELL_SIZE;
+        int rows = maze != null ? maze.rows : FALLBACK_ROWS;
+        int cols = maze != null ? maze.cols : FALLBACK_COLS;
+        int mazeWidth = cols * CELL_SIZE;
+        int mazeHeight = rows * CELL_SIZE;
 
         int effectiveWidth = mazeWidth + PADDING_LEFT + PADDING_RIGHT;
         int effectiveHeight = mazeHeight + PADDING_TOP + PADDING_BOTTOM;
 
-        offsetX = (screenWidth - effectiveWidth) / 2.0f + PADDING_LEFT;
-        offsetY = (screenHeight - effectiveHeight) / 2.0f + PADDING_TOP;
+        float zoom = Math.max(1f, Math.max((float) effectiveWidth / screenWidth,
+            (float) effectiveHeight / screenHeight));
+        float worldWidth = screenWidth * zoom;
+        float worldHeight = screenHeight * zoom;
+        camera.setToOrtho(false, worldWidth, worldHeight);
+
+        offsetX = (worldWidth - effectiveWidth) / 2.0f + PADDING_LEFT;
+        offsetY = (worldHeight - effectiveHeight) / 2.0f + PADDING_TOP;
+
+        renderPipeline.setProjectionMatrix(camera.combined);
+        layoutDirty = false;
 
-        System.out.println("🎯 Maze offset: (" + offsetX + ", " + offsetY + ")");
+        System.out.println("🎯 Maze offset: (" + offsetX + ", " + offsetY + "), zoom " + zoom);
     }
 
     /**
@@ -297,8 +308,10 @@ public class GameScreen implements Screen {
             @Override
             public void onSuccess(Maze loadedMaze) {
                 maze = loadedMaze;
-                gameState = new GameState(maze);
+                gameState = new GameState(maze, GHOST_COUNT);
                 gameState.level = levelNum;
+                clock.reset();
+                layoutDirty = true;
 
 //                System.out.println("✅ Maze loaded!");
 //                System.out.println("🍒 Pellets: " + gameState.getPelletsRemaining());
@@ -312,8 +325,10 @@ public class GameScreen implements Screen {
                 System.err.println("❌ ERROR: " + error);
                 loadingMessage = "Error: " + error;
                 maze = generateFallbackMaze();
-                gameState = new GameState(maze);
+                gameState = new GameState(maze, GHOST_COUNT);
                 gameState.level = levelNum;
+                clock.reset();
+                layoutDirty = true;
                 mazeLoading = false;
             }
         });
@@ -323,33 +338,40 @@ public class GameScreen implements Screen {
      * ✅ FALLBACK MAZE
      */
     private Maze generateFallbackMaze() {
-        Cell[][] cells = new Cell[MAZE_ROWS][MAZE_COLS];
+        Cell[][] cells = new Cell[FALLBACK_ROWS][FALLBACK_COLS];
 
-        for (int r = 0; r < MAZE_ROWS; r++) {
-            for (int c = 0; c < MAZE_COLS; c++) {
+        for (int r = 0; r < FALLBACK_ROWS; r++) {
+            for (int c = 0; c < FALLBACK_COLS; c++) {
                 cells[r][c] = new Cell(r, c);
             }
         }
 
-        for (int r = 0; r < MAZE_ROWS; r++) {
-            for (int c = 0; c < MAZE_COLS; c++) {
+        // Grille ouverte : liens dans les deux sens (BFS et graphe des jonctions en dépendent)
+        for (int r = 0; r < FALLBACK_ROWS; r++) {
+            for (int c = 0; c < FALLBACK_COLS; c++) {
                 Cell cell = cells[r][c];
                 if (r > 0) {
                     cell.north = cells[r-1][c];
-                    cell.link(cell.north, false);
+                    cell.north.south = cell;
+                    cell.link(cell.north);
                 }
                 if (c > 0) {
                     cell.west = cells[r][c-1];
-                    cell.link(cell.west, false);
+                    cell.west.east = cell;
+                    cell.link(cell.west);
                 }
             }
         }
 
-        return new Maze("fallback", MAZE_ROWS, MAZE_COLS, cells);
+        return new Maze("fallback", FALLBACK_ROWS, FALLBACK_COLS, cells);
     }
 
     /**
      * ✅ MAIN GAME LOOP
+     *
+     * delta (temps réel de l'image) alimente l'horloge ; la simulation tourne
+     * par ticks fixes de GameClock.STEP, 0..n fois par image selon le FPS.
+     * Le rendu interpole entre les deux derniers ticks avec clock.alpha().
      */
     @Override
     public void render(float delta) {
@@ -361,18 +383,24 @@ public class GameScreen implements Screen {
             return;
         }
 
+        if (layoutDirty) {
+            updateMazeOffset(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        }
+
         // ========== PHASE 1: INPUT ==========
         handleInput();
 
         //
 
-        // ========== PHASE 2: UPDATE ==========
-        if (!gameState.gameOver) {
-            gameState.update();
+        // ========== PHASE 2+3: FIXED TICKS (UPDATE + CHECK WIN/LOSE) ==========
+        clock.advance(delta);
+        while (clock.consumeTick()) {
+            if (!gameState.gameOver) {
+                gameState.update();
+            }
+            checkGameOver();
         }
-
-        // ========== PHASE 3: CHECK WIN/LOSE ==========
-        checkGameOver();
+        float alpha = clock.alpha();
 
         // ========== PHASE 4: CLEAR SCREEN ==========
         Gdx.gl.glClearColor(0, 0, 0, 1);
@@ -380,35 +408,31 @@ public class GameScreen implements Screen {
 
 
 
-        // ========== PHASE 5: RENDER (Back to Front) ==========
-        mazeRenderer.render(maze);
-        //ghostRenderer.renderGhostHouse(gameState.ghostHouse, offsetX, offsetY);
-        pelletRenderer.render(gameState, offsetX, offsetY);
-        //ghostRenderer.render(gameState.ghosts, gameState.ghostHouse, offsetX, offsetY);  // ✅ GHOSTS
-        pacmanRenderer.render(gameState.pacman, offsetX, offsetY);
+        // ========== PHASE 5: RENDER (monde en 2 passes, puis UI) ==========
+        renderPipeline.beginFrame();
+        renderPipeline.render(gameState, offsetX, offsetY, alpha);
         uiRenderer.render(gameState, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        if (showStats) {
+            uiRenderer.renderStats(renderPipeline, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        }
     }
 
     /**
      * ✅ HANDLE KEYBOARD INPUT
      */
     private void handleInput() {
-        // Movement
+        // Movement (le déplacement lui-même se fait dans les ticks)
         if (Gdx.input.isKeyJustPressed(Input.Keys.UP)) {
             gameState.pacman.setNextDirection(Direction.UP);
-            gameState.pacman.update(maze); // move once!
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.DOWN)) {
             gameState.pacman.setNextDirection(Direction.DOWN);
-            gameState.pacman.update(maze); // move once!
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.LEFT)) {
             gameState.pacman.setNextDirection(Direction.LEFT);
-            gameState.pacman.update(maze); // move once!
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.RIGHT)) {
             gameState.pacman.setNextDirection(Direction.RIGHT);
-            gameState.pacman.update(maze); // move once!
         }
 
         // Controls
@@ -421,6 +445,11 @@ public class GameScreen implements Screen {
                 loadLevel(currentLevel + 1);
             }
         }
+
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            showStats = !showStats;
+            renderPipeline.setProfiling(showStats);
+        }
     }
 
     /**
@@ -428,10 +457,7 @@ public class GameScreen implements Screen {
      */
     private void checkGameOver() {
         if (gameState.gameOver) {
-            if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
-                restartLevel();
-            }
-            return;
+            return;  // R géré par handleInput (une fois par image, pas par tick)
         }
 
          //CHECK GHOST COLLISION
@@ -441,13 +467,13 @@ public class GameScreen implements Screen {
                 if (ghost.mode == Ghost.GhostMode.FRIGHTENED) {
                     // Eat ghost!
                     gameState.score += 200;
-                    ghost.moveTo(maze.getCellAt(15, 14));
+                    ghost.moveTo(gameState.ghostHouse.getCenterCell());
                     System.out.println("😱 Ate " + ghost.name + "! +200 points!");
                 } else {
                     // Caught!
                     gameState.lives--;
                     System.out.println("💥 Caught by " + ghost.name + "! Lives: " + gameState.lives);
-                    gameState.pacman.currentCell = maze.getCenterCell();
+                    gameState.pacman.moveTo(gameState.pacmanStart);
                 }
             }
         }
@@ -487,7 +513,6 @@ public class GameScreen implements Screen {
 
     @Override
     public void resize(int width, int height) {
-        camera.setToOrtho(false, width, height);
         updateMazeOffset(width, height);
     }
 
@@ -499,6 +524,7 @@ public class GameScreen implements Screen {
     @Override
     public void resume() {
         System.out.println("▶️  RESUMED");
+        if (renderPipeline != null) renderPipeline.invalidate();
     }
 
     @Override
@@ -509,11 +535,8 @@ public class GameScreen implements Screen {
     @Override
     public void dispose() {
         System.out.println("🧹 Disposing...");
-        if (mazeRenderer != null) mazeRenderer.dispose();
-        if (pacmanRenderer != null) pacmanRenderer.dispose();
-        if (pelletRenderer != null) pelletRenderer.dispose();
+        if (renderPipeline != null) renderPipeline.dispose();
         if (uiRenderer != null) uiRenderer.dispose();
-       // if (ghostRenderer != null) ghostRenderer.dispose();
         System.out.println("✅ Done!");
     }
 }
@@ -0,0 +1,97 @@
+package com.pacman.game.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FlowFieldsTest {
+
+    @Test
+    public void followingTheFieldShouldTakeAShortestPath() {
+        Maze maze = TestMazes.random(21, 19, 11);
+        Cell target = maze.getCellAt(10, 9);
+        FlowFields.FlowField field = new FlowFields(maze, 4).toward(target);
+
+        assertSame(target, field.getTarget());
+        assertNull(field.next(target));
+        assertEquals(FlowFields.NONE, field.directionAt(target));
+
+        for (int id = 0; id < maze.size(); id++) {
+            Cell cell = maze.getCell(id);
+            int expected = maze.mazeDistance(cell, target);
+
+            // Chaque pas suit un lien et rapproche d'exactement 1 : longueur totale = distance BFS
+            int steps = 0;
+            for (Cell at = cell; at != target; steps++) {
+                Cell next = field.next(at);
+                assertNotNull("no step from " + at, next);
+                assertTrue(at.isLinked(next));
+                assertEquals(maze.mazeDistance(at, target) - 1, maze.mazeDistance(next, target));
+                at = next;
+            }
+            assertEquals(expected, steps);
+        }
+    }
+
+    @Test
+    public void directionsShouldNameTheFirstStep() {
+        Maze maze = TestMazes.open(3, 3);
+        FlowFields.FlowField field = new FlowFields(maze, 1).toward(maze.getCellAt(1, 1));
+
+        assertEquals(FlowFields.SOUTH, field.directionAt(maze.getCellAt(0, 1)));
+        assertEquals(FlowFields.NORTH, field.directionAt(maze.getCellAt(2, 1)));
+        assertEquals(FlowFields.EAST, field.directionAt(maze.getCellAt(1, 0)));
+        assertEquals(FlowFields.WEST, field.directionAt(maze.getCellAt(1, 2)));
+        assertSame(maze.getCellAt(1, 1), field.next(maze.getCellAt(1, 0)));
+    }
+
+    @Test
+    public void unreachableCellsShouldHaveNoStep() {
+        Maze maze = TestMazes.walled(1, 4);
+        TestMazes.link(maze, 0, 0, 0, 1);  // (0,2) et (0,3) isolées
+        FlowFields.FlowField field = new FlowFields(maze, 1).toward(maze.getCellAt(0, 0));
+
+        assertSame(maze.getCellAt(0, 0), field.next(maze.getCellAt(0, 1)));
+        assertNull(field.next(maze.getCellAt(0, 2)));
+        assertEquals(FlowFields.NONE, field.directionAt(maze.getCellAt(0, 3)));
+    }
+
+    @Test
+    public void cachedFieldsShouldBeServedWithoutRecomputing() {
+        Maze maze = TestMazes.open(4, 4);
+        FlowFields flowFields = new FlowFields(maze, 2);
+
+        FlowFields.FlowField first = flowFields.toward(maze.getCellAt(0, 0));
+        assertSame(first, flowFields.toward(maze.getCellAt(0, 0)));
+
+        assertEquals(1, flowFields.getHits());
+        assertEquals(1, flowFields.getMisses());
+        assertNull(flowFields.toward(null));
+    }
+
+    @Test
+    public void evictionShouldReuseTheLeastRecentlyUsedField() {
+        Maze maze = TestMazes.open(4, 4);
+        Cell a = maze.getCellAt(0, 0), b = maze.getCellAt(3, 3), c = maze.getCellAt(1, 2);
+        FlowFields flowFields = new FlowFields(maze, 2);
+
+        FlowFields.FlowField fieldA = flowFields.toward(a);
+        FlowFields.FlowField fieldB = flowFields.toward(b);
+        assertSame(fieldA, flowFields.toward(a));  // a plus récent que b
+
+        FlowFields.FlowField fieldC = flowFields.toward(c);
+
+        // b évincé : son emplacement (et son tableau) sert maintenant à c
+        assertSame(fieldB, fieldC);
+        assertSame(c, fieldC.getTarget());
+        assertSame(maze.getCellAt(1, 2), fieldC.next(maze.getCellAt(0, 2)));
+        assertSame(fieldA, flowFields.toward(a));
+        assertEquals(2, flowFields.getHits());
+        assertEquals(3, flowFields.getMisses());
+
+        flowFields.toward(b);  // recalculé, à la place du moins récent (c)
+        assertEquals(4, flowFields.getMisses());
+        assertSame(b, fieldC.getTarget());
+        assertEquals(2, flowFields.getCapacity());
+    }
+}
@@ -0,0 +1,84 @@
+package com.pacman.game.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GameClockTest {
+
+    private static final float EPSILON = 1e-4f;
+
+    @Test
+    public void advanceShouldAccumulateWholeTicks() {
+        GameClock clock = new GameClock();
+
+        clock.advance(GameClock.STEP * 0.5f);
+        assertFalse(clock.consumeTick());
+        assertEquals(0.5f, clock.alpha(), EPSILON);
+
+        clock.advance(GameClock.STEP * 2f);  // 2.5 ticks en attente
+        assertEquals(2, drain(clock));
+        assertEquals(0.5f, clock.alpha(), EPSILON);
+        assertEquals(2, clock.getTicks());
+    }
+
+    @Test
+    public void tickRateShouldNotDependOnFrameRate() {
+        GameClock at60 = new GameClock();
+        GameClock at144 = new GameClock();
+
+        int ticks60 = 0;
+        for (int frame = 0; frame < 60; frame++) {
+            at60.advance(1f / 60);
+            ticks60 += drain(at60);
+        }
+        int ticks144 = 0;
+        for (int frame = 0; frame < 144; frame++) {
+            at144.advance(1f / 144);
+            ticks144 += drain(at144);
+        }
+
+        // Une seconde simulée = TICKS_PER_SECOND ticks, à un tick près (arrondi float)
+        assertEquals(GameClock.TICKS_PER_SECOND, ticks60, 1);
+        assertEquals(GameClock.TICKS_PER_SECOND, ticks144, 1);
+    }
+
+    @Test
+    public void longFramesShouldBeClampedToMaxFrameTime() {
+        GameClock clock = new GameClock();
+
+        clock.advance(10f);  // freeze de 10 s
+
+        // Plafond MAX_FRAME_TIME = 0.25 s : 15 ticks au plus, pas 600
+        int ticks = drain(clock);
+        assertTrue("ticks = " + ticks, ticks >= 14 && ticks <= 15);
+    }
+
+    @Test
+    public void negativeDeltaShouldBeIgnored() {
+        GameClock clock = new GameClock();
+
+        clock.advance(-1f);
+
+        assertFalse(clock.consumeTick());
+        assertEquals(0f, clock.alpha(), 0f);
+    }
+
+    @Test
+    public void resetShouldDropPendingTime() {
+        GameClock clock = new GameClock();
+        clock.advance(GameClock.STEP * 3.5f);
+        clock.consumeTick();
+
+        clock.reset();
+
+        assertEquals(0, clock.getTicks());
+        assertFalse(clock.consumeTick());
+    }
+
+    private static int drain(GameClock clock) {
+        int ticks = 0;
+        while (clock.consumeTick()) ticks++;
+        return ticks;
+    }
+}
@@ -0,0 +1,36 @@
+package com.pacman.game.model;
+
+/**
+ * ✅ Mesure du coût d'un tick de simulation (GameState.update) sur un grand maze
+ *
+ * Pas un test JUnit : à lancer à la main, depuis le classpath de test.
+ *   java -cp <classes main + test + gdx> com.pacman.game.model.GameStateBenchmark [rows cols ghosts ticks seed]
+ * Défaut : 100 × 100, 32 fantômes, 6000 ticks mesurés après 600 ticks d'échauffement, seed 3
+ */
+public final class GameStateBenchmark {
+
+    private static final int WARMUP_TICKS = 600;
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int cols = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int ghosts = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+        int ticks = args.length > 3 ? Integer.parseInt(args[3]) : 6000;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 3;
+
+        GameState gameState = new GameState(TestMazes.random(rows, cols, seed), ghosts);
+        for (int t = 0; t < WARMUP_TICKS; t++) {
+            gameState.update();
+        }
+
+        long start = System.nanoTime();
+        for (int t = 0; t < ticks; t++) {
+            gameState.update();
+        }
+        double microsPerTick = (System.nanoTime() - start) / 1e3 / ticks;
+
+        FlowFields flowFields = gameState.ghostMovement.getFlowFields();
+        System.out.printf("⏱️ %d×%d, %d ghosts: %.1f µs/tick over %d ticks (flow fields: %d hits, %d misses)%n",
+            rows, cols, ghosts, microsPerTick, ticks, flowFields.getHits(), flowFields.getMisses());
+    }
+}
@@ -0,0 +1,140 @@
+package com.pacman.game.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class JunctionGraphTest {
+
+    @Test
+    public void straightCorridorShouldHaveTwoEndsAndOneCorridorEachWay() {
+        Maze maze = TestMazes.open(1, 5);
+        JunctionGraph graph = new JunctionGraph(maze);
+
+        assertEquals(2, graph.getNodeCount());
+        assertEquals(2, graph.getCorridorCount());
+        assertTrue(graph.isNode(maze.getCellAt(0, 0)));
+        assertFalse(graph.isNode(maze.getCellAt(0, 2)));
+
+        JunctionGraph.Corridor east = graph.exits(maze.getCellAt(0, 0))[0];
+        assertSame(maze.getCellAt(0, 4), east.to);
+        assertEquals(4, east.length);
+        assertSame(maze.getCellAt(0, 1), east.path[0]);
+
+        JunctionGraph.Corridor west = east.reverse;
+        assertNotNull(west);
+        assertSame(east, west.reverse);
+        assertSame(maze.getCellAt(0, 4), west.from);
+        assertSame(maze.getCellAt(0, 0), west.to);
+    }
+
+    @Test
+    public void stepsAlongShouldCountFromEitherEnd() {
+        Maze maze = TestMazes.open(1, 5);
+        JunctionGraph graph = new JunctionGraph(maze);
+        JunctionGraph.Corridor east = graph.exits(maze.getCellAt(0, 0))[0];
+        JunctionGraph.Corridor west = east.reverse;
+
+        assertEquals(0, graph.stepsAlong(east, maze.getCellAt(0, 0)));
+        assertEquals(1, graph.stepsAlong(east, maze.getCellAt(0, 1)));
+        assertEquals(4, graph.stepsAlong(east, maze.getCellAt(0, 4)));
+        assertEquals(3, graph.stepsAlong(west, maze.getCellAt(0, 1)));
+        assertEquals(2, graph.stepsAlong(west, maze.getCellAt(0, 2)));
+        assertSame(maze.getCellAt(0, 1), west.cellAt(3));
+
+        assertNull(graph.corridorOf(maze.getCellAt(0, 0)));
+        assertNotNull(graph.corridorOf(maze.getCellAt(0, 2)));
+    }
+
+    @Test
+    public void stepsAlongShouldRejectCellsOfOtherCorridors() {
+        Maze maze = TestMazes.open(3, 3);
+        JunctionGraph graph = new JunctionGraph(maze);
+        JunctionGraph.Corridor toCentre = null;
+        for (JunctionGraph.Corridor corridor : graph.exits(maze.getCellAt(0, 1))) {
+            if (corridor.to == maze.getCellAt(1, 1)) toCentre = corridor;
+        }
+
+        assertNotNull(toCentre);
+        assertEquals(-1, graph.stepsAlong(toCentre, maze.getCellAt(0, 0)));
+        assertEquals(-1, graph.stepsAlong(toCentre, maze.getCellAt(2, 2)));
+    }
+
+    @Test
+    public void openGridShouldHaveJunctionsAtEdgesAndCentre() {
+        // 3 × 3 sans murs : coins de degré 2 (intérieurs de couloir), bords de degré 3, centre de degré 4
+        Maze maze = TestMazes.open(3, 3);
+        JunctionGraph graph = new JunctionGraph(maze);
+
+        assertEquals(5, graph.getNodeCount());
+        assertEquals(4 * 3 + 4, graph.getCorridorCount());
+        assertFalse(graph.isNode(maze.getCellAt(0, 0)));
+        assertEquals(4, graph.exits(maze.getCellAt(1, 1)).length);
+        assertEquals(0, graph.exits(maze.getCellAt(0, 0)).length);
+
+        for (JunctionGraph.Corridor corridor : graph.exits(maze.getCellAt(0, 1))) {
+            int expected = corridor.to == maze.getCellAt(1, 1) ? 1 : 2;  // centre direct, ou bord voisin par un coin
+            assertEquals(corridor.toString(), expected, corridor.length);
+        }
+    }
+
+    @Test
+    public void loopWithoutJunctionShouldGetOneNode() {
+        // Anneau 2 × 3 : toutes les cellules ont 2 liens
+        Maze maze = TestMazes.walled(2, 3);
+        TestMazes.link(maze, 0, 0, 0, 1);
+        TestMazes.link(maze, 0, 1, 0, 2);
+        TestMazes.link(maze, 0, 2, 1, 2);
+        TestMazes.link(maze, 1, 2, 1, 1);
+        TestMazes.link(maze, 1, 1, 1, 0);
+        TestMazes.link(maze, 1, 0, 0, 0);
+        JunctionGraph graph = new JunctionGraph(maze);
+
+        assertEquals(1, graph.getNodeCount());
+        assertEquals(2, graph.getCorridorCount());
+
+        Cell node = maze.getCellAt(0, 0);
+        assertTrue(graph.isNode(node));
+        JunctionGraph.Corridor[] exits = graph.exits(node);
+        assertEquals(2, exits.length);
+        for (JunctionGraph.Corridor corridor : exits) {
+            assertSame(node, corridor.to);
+            assertEquals(6, corridor.length);
+            assertNotSame(corridor, corridor.reverse);
+            assertSame(corridor, corridor.reverse.reverse);
+        }
+        assertEquals(1, graph.stepsAlong(exits[0], exits[0].path[0]));
+        assertEquals(5, graph.stepsAlong(exits[1], exits[0].path[0]));
+    }
+
+    @Test
+    public void everyCorridorOfARandomMazeShouldBeConsistent() {
+        Maze maze = TestMazes.random(31, 28, 7);
+        JunctionGraph graph = new JunctionGraph(maze);
+
+        int corridors = 0;
+        for (int id = 0; id < maze.size(); id++) {
+            Cell cell = maze.getCell(id);
+            if (!graph.isNode(cell)) {
+                // Cellule intérieure : retrouvée sur son couloir
+                JunctionGraph.Corridor corridor = graph.corridorOf(cell);
+                int steps = graph.stepsAlong(corridor, cell);
+                assertTrue(steps > 0 && steps < corridor.length);
+                assertSame(cell, corridor.cellAt(steps));
+                continue;
+            }
+            for (JunctionGraph.Corridor corridor : graph.exits(cell)) {
+                corridors++;
+                assertNotNull(corridor.toString(), corridor.reverse);
+                assertSame(corridor, corridor.reverse.reverse);
+                assertSame(corridor.from, corridor.reverse.to);
+                assertTrue(graph.isNode(corridor.to));
+                assertTrue(corridor.from.isLinked(corridor.path[0]));
+                for (int k = 1; k < corridor.length; k++) {
+                    assertTrue(corridor.path[k - 1].isLinked(corridor.path[k]));
+                }
+            }
+        }
+        assertEquals(graph.getCorridorCount(), corridors);
+    }
+}
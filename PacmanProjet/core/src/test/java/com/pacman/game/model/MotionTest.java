@@ -0,0 +1,115 @@
+package com.pacman.game.model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MotionTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    private Maze corridor;          // 1 × 5, ouvert d'ouest en est
+    private Motion motion;
+    private List<Cell[]> decisions; // appels au Steering : {at, from}
+    private Motion.Steering east;
+
+    @Before
+    public void setUp() {
+        corridor = TestMazes.open(1, 5);
+        motion = new Motion();
+        motion.snapTo(corridor.getCellAt(0, 0));
+        decisions = new ArrayList<>();
+        east = (at, from) -> {
+            decisions.add(new Cell[]{at, from});
+            return at.east;
+        };
+    }
+
+    @Test
+    public void advanceShouldMoveTowardTheChosenNeighbour() {
+        motion.advance(0.25f, east);
+
+        assertSame(corridor.getCellAt(0, 0), motion.getCell());
+        assertSame(corridor.getCellAt(0, 1), motion.getHeading());
+        assertEquals(0.25f, motion.getOffset(), EPSILON);
+        assertEquals(0.25f, motion.getCol(), EPSILON);
+        assertFalse(motion.isCentered());
+    }
+
+    @Test
+    public void passingTheMidpointShouldChangeCell() {
+        motion.advance(0.75f, east);
+
+        // Le centre est passé dans (0,1) : on en est à 0.25 cellule, en provenance de (0,0)
+        assertSame(corridor.getCellAt(0, 1), motion.getCell());
+        assertSame(corridor.getCellAt(0, 0), motion.getHeading());
+        assertEquals(-0.25f, motion.getOffset(), EPSILON);
+        assertEquals(0.75f, motion.getCol(), EPSILON);
+        assertEquals(1, decisions.size());
+    }
+
+    @Test
+    public void crossingACentreShouldAskTheSteeringWithTheCellReached() {
+        motion.advance(2.0f, east);
+
+        assertSame(corridor.getCellAt(0, 2), motion.getCell());
+        assertTrue(motion.isCentered());
+        assertEquals(2.0f, motion.getCol(), EPSILON);
+
+        // Une décision par centre traversé, avec la cellule atteinte et la cellule d'origine
+        assertEquals(3, decisions.size());
+        assertSame(corridor.getCellAt(0, 1), decisions.get(1)[0]);
+        assertSame(corridor.getCellAt(0, 0), decisions.get(1)[1]);
+        assertNull(decisions.get(0)[1]);
+    }
+
+    @Test
+    public void nullSteeringShouldStopAtTheCentre() {
+        motion.snapTo(corridor.getCellAt(0, 4));
+
+        motion.advance(0.5f, east);  // pas de voisin à l'est du bout du couloir
+
+        assertSame(corridor.getCellAt(0, 4), motion.getCell());
+        assertTrue(motion.isCentered());
+        assertEquals(4f, motion.getCol(), EPSILON);
+    }
+
+    @Test
+    public void reverseShouldHeadBackToTheCentreLeft() {
+        motion.advance(0.25f, east);
+
+        motion.reverse();
+
+        assertEquals(-0.25f, motion.getOffset(), EPSILON);
+        assertEquals(0.25f, motion.getCol(), EPSILON);  // pas de saut à l'écran
+
+        motion.advance(0.25f, (at, from) -> null);
+        assertSame(corridor.getCellAt(0, 0), motion.getCell());
+        assertTrue(motion.isCentered());
+        assertEquals(0f, motion.getCol(), EPSILON);
+    }
+
+    @Test
+    public void renderPositionShouldInterpolateBetweenTicks() {
+        motion.beginTick();
+        motion.advance(0.5f, east);  // col 0 → 0.5
+
+        assertEquals(0f, motion.renderCol(0f), EPSILON);
+        assertEquals(0.25f, motion.renderCol(0.5f), EPSILON);
+        assertEquals(0.5f, motion.renderCol(1f), EPSILON);
+        assertEquals(0f, motion.renderRow(0.5f), EPSILON);
+    }
+
+    @Test
+    public void snapToShouldNotInterpolate() {
+        motion.beginTick();
+        motion.snapTo(corridor.getCellAt(0, 3));
+
+        assertEquals(3f, motion.renderCol(0f), EPSILON);
+        assertEquals(3f, motion.renderCol(1f), EPSILON);
+    }
+}
@@ -0,0 +1,98 @@
+package com.pacman.game.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ✅ Mazes construits en mémoire pour les tests (sans passer par l'API)
+ *
+ * Liens posés comme MazeApiClient : link() dans les deux sens + voisins north/south/east/west
+ */
+public final class TestMazes {
+
+    private TestMazes() {
+    }
+
+    /**
+     * ✅ Grille rows × cols sans aucun passage
+     */
+    public static Maze walled(int rows, int cols) {
+        Cell[][] cells = new Cell[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                cells[r][c] = new Cell(r, c);
+                cells[r][c].isWalkable = true;
+            }
+        }
+        return new Maze("test-" + rows + "x" + cols, rows, cols, cells);
+    }
+
+    /**
+     * ✅ Grille rows × cols sans aucun mur intérieur
+     */
+    public static Maze open(int rows, int cols) {
+        Maze maze = walled(rows, cols);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (r + 1 < rows) link(maze, r, c, r + 1, c);
+                if (c + 1 < cols) link(maze, r, c, r, c + 1);
+            }
+        }
+        return maze;
+    }
+
+    /**
+     * ✅ Maze aléatoire reproductible : recursive backtracker, puis rows × cols / 10 murs
+     * ouverts au hasard (boucles, comme un maze Pac-Man)
+     */
+    public static Maze random(int rows, int cols, long seed) {
+        Maze maze = walled(rows, cols);
+        Random random = new Random(seed);
+
+        boolean[][] visited = new boolean[rows][cols];
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{0, 0});
+        visited[0][0] = true;
+        int[][] steps = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        while (!stack.isEmpty()) {
+            int[] at = stack.peek();
+            List<int[]> unvisited = new ArrayList<>();
+            for (int[] step : steps) {
+                int r = at[0] + step[0], c = at[1] + step[1];
+                if (r >= 0 && r < rows && c >= 0 && c < cols && !visited[r][c]) unvisited.add(new int[]{r, c});
+            }
+            if (unvisited.isEmpty()) {
+                stack.pop();
+                continue;
+            }
+            int[] next = unvisited.get(random.nextInt(unvisited.size()));
+            visited[next[0]][next[1]] = true;
+            link(maze, at[0], at[1], next[0], next[1]);
+            stack.push(next);
+        }
+
+        for (int i = 0; i < rows * cols / 10; i++) {
+            int r = random.nextInt(rows - 1), c = random.nextInt(cols - 1);
+            if (random.nextBoolean()) link(maze, r, c, r + 1, c);
+            else link(maze, r, c, r, c + 1);
+        }
+        return maze;
+    }
+
+    /**
+     * ✅ Ouvrir le passage entre deux cellules adjacentes
+     */
+    public static void link(Maze maze, int r1, int c1, int r2, int c2) {
+        Cell a = maze.getCellAt(r1, c1);
+        Cell b = maze.getCellAt(r2, c2);
+        a.link(b);
+        if (r2 == r1 + 1) { a.south = b; b.north = a; }
+        else if (r2 == r1 - 1) { a.north = b; b.south = a; }
+        else if (c2 == c1 + 1) { a.east = b; b.west = a; }
+        else if (c2 == c1 - 1) { a.west = b; b.east = a; }
+        else throw new IllegalArgumentException("Cells are not adjacent: " + a + " " + b);
+    }
+}
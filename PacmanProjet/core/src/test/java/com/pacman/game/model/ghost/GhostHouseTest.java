@@ -0,0 +1,68 @@
+package com.pacman.game.model.ghost;
+
+import com.pacman.game.model.Cell;
+import com.pacman.game.model.Maze;
+import com.pacman.game.model.TestMazes;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GhostHouseTest {
+
+    @Test
+    public void isInsideShouldMatchTheRectangleOnAWideMaze() {
+        // 20 × 40 : maison en lignes 8..11, colonnes 16..23 → ids 336..463, sur les mots 5 à 7 du bitmask
+        Maze maze = TestMazes.walled(20, 40);
+        GhostHouse house = new GhostHouse(10, 20, 8, 4, maze);
+
+        assertInsideExactly(house, maze, 8, 11, 16, 23);
+        assertEquals(32, house.getCells().size());
+        assertTrue(maze.getCellAt(8, 16).id >= 64);
+    }
+
+    @Test
+    public void isInsideShouldHandleHousesStraddlingMaskWords() {
+        // 9 colonnes : la ligne 7 couvre les ids 63..71, à cheval sur les mots 0 et 1
+        Maze maze = TestMazes.walled(10, 9);
+        GhostHouse house = new GhostHouse(7, 4, 9, 1, maze);
+
+        assertInsideExactly(house, maze, 7, 7, 0, 8);
+        assertTrue(house.isInside(maze.getCellAt(7, 0)));  // id 63, dernier bit du mot 0
+        assertTrue(house.isInside(maze.getCellAt(7, 1)));  // id 64, premier bit du mot 1
+        assertFalse(house.isInside(maze.getCellAt(8, 0))); // id 72
+    }
+
+    @Test
+    public void houseLargerThanTheMazeShouldBeClamped() {
+        Maze maze = TestMazes.walled(3, 5);
+        GhostHouse house = new GhostHouse(1, 2, 8, 4, maze);
+
+        assertInsideExactly(house, maze, 0, 2, 0, 4);
+        assertFalse(house.isInside(-1, 0));
+        assertFalse(house.isInside(0, 5));
+        assertFalse(house.isInside(null));
+        assertSame(maze.getCellAt(1, 2), house.getCenterCell());
+    }
+
+    @Test
+    public void spawnPositionsShouldBeInsideForAnyGhostCount() {
+        Maze maze = TestMazes.walled(15, 21);
+        GhostHouse house = new GhostHouse(7, 10, 6, 3, maze);
+
+        for (int id = 0; id < 32; id++) {
+            assertTrue("ghost " + id, house.isInside(house.getSpawnPosition(id)));
+        }
+    }
+
+    private static void assertInsideExactly(GhostHouse house, Maze maze,
+                                            int startRow, int endRow, int startCol, int endCol) {
+        for (int r = 0; r < maze.rows; r++) {
+            for (int c = 0; c < maze.cols; c++) {
+                boolean expected = r >= startRow && r <= endRow && c >= startCol && c <= endCol;
+                Cell cell = maze.getCellAt(r, c);
+                assertEquals("(" + r + ", " + c + ")", expected, house.isInside(cell));
+                assertEquals("(" + r + ", " + c + ")", expected, house.isInside(r, c));
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.pacman.game.model.ghost;
+
+import com.pacman.game.model.Cell;
+import com.pacman.game.model.Maze;
+import com.pacman.game.model.Pacman;
+import com.pacman.game.model.TestMazes;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GhostTeamTest {
+
+    private Maze corridor;  // 1 × 21 : distances = écarts de colonnes
+    private Pacman pacman;
+    private List<Ghost> ghosts;
+    private GhostTeam team;
+
+    @Before
+    public void setUp() {
+        corridor = TestMazes.open(1, 21);
+        pacman = new Pacman(at(10));
+        ghosts = new ArrayList<>();
+        team = new GhostTeam(ghosts, pacman, corridor);
+    }
+
+    @Test
+    public void closestGhostShouldLeadAndOthersBlockTheEscape() {
+        for (int col = 0; col < 8; col++) {
+            addGhost(col);
+        }
+        Ghost leader = ghosts.get(7);  // colonne 7, à 3 cases de Pacman
+        leader.setMode(Ghost.GhostMode.SCATTER);
+
+        team.coordinatedAttack();
+
+        // Tous les fantômes à l'ouest : fuite vers l'est, blocage BLOCKING_STEPS cases plus loin
+        assertNull(leader.teamTarget);
+        assertEquals(Ghost.GhostMode.CHASE, leader.mode);
+        for (Ghost ghost : ghosts) {
+            if (ghost != leader) assertSame(ghost.name + ghost.id, at(13), ghost.teamTarget);
+        }
+        assertEquals(3, team.distanceToPacman(leader));
+        assertEquals(10, team.distanceToPacman(ghosts.get(0)));
+    }
+
+    @Test
+    public void deadGhostsShouldNotLead() {
+        Ghost far = addGhost(2);
+        Ghost near = addGhost(8);
+        near.isAlive = false;
+
+        team.coordinatedAttack();
+
+        assertNull(far.teamTarget);
+        assertNotNull(near.teamTarget);
+    }
+
+    @Test
+    public void blockingCellShouldStopAtWalls() {
+        Maze shortCorridor = TestMazes.open(1, 12);
+        Pacman cornered = new Pacman(shortCorridor.getCellAt(0, 10));
+        List<Ghost> pair = new ArrayList<>();
+        pair.add(new Blinky(0, shortCorridor.getCellAt(0, 0), shortCorridor.getCellAt(0, 0)));
+        pair.add(new Pinky(1, shortCorridor.getCellAt(0, 1), shortCorridor.getCellAt(0, 0)));
+
+        new GhostTeam(pair, cornered, shortCorridor).coordinatedAttack();
+
+        assertSame(shortCorridor.getCellAt(0, 11), pair.get(0).teamTarget);
+    }
+
+    @Test
+    public void movedSourcesShouldRefreshTheTargets() {
+        Ghost west = addGhost(2);
+        Ghost other = addGhost(3);
+        team.coordinatedAttack();
+        assertSame(at(13), west.teamTarget);
+
+        // Un fantôme passe à l'est (colonne 16, plus proche) : il mène, la fuite part à l'ouest
+        other.moveTo(at(16));
+        team.coordinatedAttack();
+        assertNull(other.teamTarget);
+        assertSame(at(7), west.teamTarget);
+
+        // Pacman se déplace : les distances suivent
+        pacman.moveTo(at(12));
+        team.coordinatedAttack();
+        assertEquals(4, team.distanceToPacman(other));
+        assertEquals(10, team.distanceToPacman(west));
+    }
+
+    @Test
+    public void aSingleGhostShouldKeepItsOwnBehaviour() {
+        Ghost alone = addGhost(0);
+        alone.setTeamTarget(at(5));
+
+        team.coordinatedAttack();
+
+        assertSame(at(5), alone.teamTarget);
+    }
+
+    private Ghost addGhost(int col) {
+        int id = ghosts.size();
+        Ghost ghost = id % 2 == 0
+            ? new Blinky(id, at(col), at(0))
+            : new Pinky(id, at(col), at(0));
+        ghosts.add(ghost);
+        return ghost;
+    }
+
+    private Cell at(int col) {
+        return corridor.getCellAt(0, col);
+    }
+}
@@ -0,0 +1,100 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Générateur de charge minimal (aucune dépendance) : java LoadTest.java <baseUrl> <scenario> <concurrency> <seconds>
+ *
+ * Scénarios :
+ * - generate : GET /api/maze/pacman-generated (CPU, passe par le GenerationLimiter, puis sauvegarde)
+ * - read     : GET /api/maze/{id} sur les ids de /recent (cache L1 + stockage)
+ * - mixed    : 1 génération pour 9 lectures
+ *
+ * Chaque client est une boucle fermée (requête, attente de la réponse, requête suivante) sur un
+ * virtual thread côté client, pour que le client ne soit pas la limite à forte concurrence.
+ * Sortie : une ligne TSV (scenario, concurrency, requests, errors, req/s, p50, p95, p99, max en ms).
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("usage: java LoadTest.java <baseUrl> <generate|read|mixed> <concurrency> <seconds>");
+            System.exit(2);
+        }
+        String base = args[0];
+        String scenario = args[1];
+        int concurrency = Integer.parseInt(args[2]);
+        int seconds = Integer.parseInt(args[3]);
+
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        List<String> ids = scenario.equals("generate") ? List.of() : recentIds(client, base);
+
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        AtomicInteger errors = new AtomicInteger();
+        long[][] results = new long[concurrency][];  // latences (ns) par client, lues après join()
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < concurrency; i++) {
+            int index = i;
+            threads.add(Thread.ofVirtual().start(() -> {
+                long[] latencies = new long[1024];
+                int n = 0;
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    String path = pick(scenario, ids, random);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(
+                            HttpRequest.newBuilder(URI.create(base + path)).timeout(Duration.ofSeconds(60)).build(),
+                            HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) errors.incrementAndGet();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    if (n == latencies.length) latencies = Arrays.copyOf(latencies, n * 2);
+                    latencies[n++] = System.nanoTime() - start;
+                }
+                results[index] = Arrays.copyOf(latencies, n);
+            }));
+        }
+        for (Thread t : threads) t.join();
+
+        long[] all = Arrays.stream(results).flatMapToLong(Arrays::stream).sorted().toArray();
+        double throughput = all.length / (double) seconds;
+        System.out.printf("%s\t%d\t%d\t%d\t%.1f\t%.1f\t%.1f\t%.1f\t%.1f%n",
+            scenario, concurrency, all.length, errors.get(), throughput,
+            ms(all, 0.50), ms(all, 0.95), ms(all, 0.99), all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+    }
+
+    private static String pick(String scenario, List<String> ids, ThreadLocalRandom random) {
+        boolean generate = scenario.equals("generate")
+            || (scenario.equals("mixed") && random.nextInt(10) == 0)
+            || ids.isEmpty();
+        return generate ? "/api/maze/pacman-generated" : "/api/maze/" + ids.get(random.nextInt(ids.size()));
+    }
+
+    private static List<String> recentIds(HttpClient client, String base) throws Exception {
+        String body = client.send(HttpRequest.newBuilder(URI.create(base + "/api/maze/recent?limit=100")).build(),
+            HttpResponse.BodyHandlers.ofString()).body();
+        List<String> ids = new ArrayList<>();
+        Matcher m = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"").matcher(body);
+        while (m.find()) ids.add(m.group(1));
+        return ids;
+    }
+
+    private static double ms(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+        return sorted[Math.min(sorted.length - 1, (int) (quantile * sorted.length))] / 1e6;
+    }
+}
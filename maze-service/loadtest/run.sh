@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Charge comparée : threads plateforme (Tomcat classique) vs virtual threads, même machine, même jar.
+# Stockage local (profil "local") : aucune dépendance réseau, résultats reproductibles hors ligne.
+#
+# Usage : loadtest/run.sh [seconds-per-scenario]    (depuis maze-service/, JDK 21 : JAVA_HOME ou java du PATH)
+# Sortie : TSV sur stdout (mode, scenario, concurrency, requests, errors, req/s, p50, p95, p99, max en ms)
+set -euo pipefail
+
+SECONDS_PER_RUN=${1:-20}
+PORT=${PORT:-18080}
+BASE="http://localhost:$PORT"
+DIR=$(cd "$(dirname "$0")/.." && pwd)
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+WORK=$(mktemp -d)
+trap 'kill "${SERVER:-}" 2>/dev/null || true; rm -rf "$WORK"' EXIT
+
+cd "$DIR"
+gradle -q bootJar
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+
+echo -e "mode\tscenario\tconcurrency\trequests\terrors\treq/s\tp50\tp95\tp99\tmax"
+for VIRTUAL in false true; do
+    rm -f "$WORK/mazes.log"
+    "$JAVA" -jar "$JAR" --spring.profiles.active=local --server.port="$PORT" \
+        --spring.threads.virtual.enabled="$VIRTUAL" \
+        --maze.storage.local.path="$WORK/mazes.log" > "$WORK/server-$VIRTUAL.log" 2>&1 &
+    SERVER=$!
+    until curl -sf "$BASE/actuator/health" > /dev/null; do
+        kill -0 "$SERVER" 2>/dev/null || { cat "$WORK/server-$VIRTUAL.log" >&2; exit 1; }
+        sleep 0.5
+    done
+
+    # Données : 100 mazes, puis échauffement du JIT (non mesuré)
+    for _ in $(seq 100); do curl -sf "$BASE/api/maze/pacman-generated" > /dev/null; done
+    "$JAVA" loadtest/LoadTest.java "$BASE" mixed 32 10 > /dev/null
+
+    MODE=$([ "$VIRTUAL" = true ] && echo virtual || echo platform)
+    for RUN in "generate 16" "read 64" "read 400" "mixed 400"; do
+        set -- $RUN
+        echo -e "$MODE\t$("$JAVA" loadtest/LoadTest.java "$BASE" "$1" "$2" "$SECONDS_PER_RUN")"
+    done
+
+    kill "$SERVER"
+    wait "$SERVER" 2>/dev/null || true
+done
@@ -0,0 +1,64 @@
+package com.example.demo.cache;
+
+import com.example.demo.metrics.MazeMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Cache L1 en mémoire devant MazeRepository (lecture GET /api/maze/{id}).
+ *
+ * - Clé : id du maze, valeur : réponse JSON déjà sérialisée (byte[])
+ * - Borné par le total d'octets sérialisés (les mazes n'ont pas tous la même taille)
+ * - Éviction W-TinyLFU (Caffeine) : les mazes populaires restent, les lectures uniques passent
+ * - Stats hit/miss/eviction exposées par Micrometer (cache.gets, cache.evictions, ... cache="maze.l1")
+ *
+ * Configuration : maze.cache.max-bytes (0 = cache désactivé)
+ */
+@Component
+public class MazeCache {
+
+    public static final String NAME = "maze.l1";
+
+    private final Cache<String, byte[]> cache;
+
+    public MazeCache(@Value("${maze.cache.max-bytes:67108864}") long maxBytes,
+                     MazeMetrics metrics) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(Math.max(0, maxBytes))
+            .weigher((String id, byte[] json) -> json.length)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(metrics.getRegistry(), cache, NAME);
+    }
+
+    /**
+     * Lire un maze sérialisé ; en cas de miss, le charger via loader.
+     * Un loader qui retourne null (maze inexistant) n'est pas mis en cache.
+     */
+    public byte[] get(String id, Function<String, byte[]> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Retirer un maze du cache (ex : après une notation)
+     */
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // Forcer la maintenance (évictions en attente) : utile pour les tests
+    void cleanUp() {
+        cache.cleanUp();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.concurrency;
+
+import com.example.demo.metrics.MazeMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Limite le nombre de générations de maze (travail CPU) exécutées en parallèle.
+ *
+ * Avec les virtual threads, Tomcat accepte autant de requêtes que nécessaire :
+ * les appels Mongo bloquants ne monopolisent plus de thread plateforme.
+ * Le carving, lui, est purement CPU : on le fait passer par un sémaphore
+ * dimensionné sur le nombre de cœurs pour ne pas surcharger la machine.
+ *
+ * Les mazes streamés (?stream=true) ont leur propre sémaphore, plus petit : un stream dure
+ * aussi longtemps que le client lit, il ne doit pas confisquer les permits des générations courtes.
+ *
+ * Configuration : maze.generation.max-concurrency (0 = nombre de cœurs),
+ * maze.generation.max-streams (streams simultanés)
+ */
+@Component
+public class GenerationLimiter {
+
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final Semaphore streams;
+
+    public GenerationLimiter(@Value("${maze.generation.max-concurrency:0}") int configured,
+                             @Value("${maze.generation.max-streams:2}") int maxStreams,
+                             MazeMetrics metrics) {
+        this.maxConcurrency = configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.streams = new Semaphore(Math.max(1, maxStreams), true);
+
+        metrics.gauge("maze.generation.permits.available",
+            "Générations pouvant encore démarrer immédiatement", permits, Semaphore::availablePermits);
+        metrics.gauge("maze.generation.queue",
+            "Requêtes en attente d'un permit de génération", permits, Semaphore::getQueueLength);
+        metrics.gauge("maze.generation.streams.available",
+            "Streams pouvant encore démarrer immédiatement", streams, Semaphore::availablePermits);
+    }
+
+    /**
+     * Exécuter une tâche CPU en respectant la limite de concurrence
+     */
+    public <T> T call(Supplier<T> task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a generation slot", e);
+        }
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Écrire un maze streamé en respectant la limite de streams simultanés
+     * (permit tenu pendant toute l'écriture)
+     */
+    public void stream(StreamTask task) throws IOException {
+        try {
+            streams.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a stream slot", e);
+        }
+        try {
+            task.run();
+        } finally {
+            streams.release();
+        }
+    }
+
+    @FunctionalInterface
+    public interface StreamTask {
+        void run() throws IOException;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+}
@@ -1,21 +1,46 @@
 package com.example.demo.controller;
 
+import com.example.demo.cache.MazeCache;
+import com.example.demo.concurrency.GenerationLimiter;
+import com.example.demo.metrics.MazeMetrics;
 import com.example.demo.models.components.algorithms.BinaryTree;
+import com.example.demo.models.components.algorithms.MazeAlgorithms;
 import com.example.demo.models.components.algorithms.RecursiveBacktracker;
+import com.example.demo.models.components.algorithms.RowMazeGenerator;
 import com.example.demo.models.components.algorithms.Sidewinder;
 import com.example.demo.models.components.algorithms.TruePrims;
-import com.example.demo.models.components.maze.Cell;
 import com.example.demo.models.components.maze.Grid;
+import com.example.demo.models.components.maze.MazeAnalysis;
 import com.example.demo.models.components.maze.PacmanMaze;
+import com.example.demo.models.dto.MazeSearch;
+import com.example.demo.models.dto.MazeSpec;
 import com.example.demo.models.entities.MazeEntity;
-import com.example.demo.repository.MazeRepository;
+import com.example.demo.models.entities.MazeSummary;
+import com.example.demo.serialization.MazeJsonWriter;
+import com.example.demo.storage.MazeArchive;
+import com.example.demo.storage.MazeStore;
+import com.example.demo.storage.WallCodec;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * REST Controller for Maze generation.
@@ -32,10 +57,37 @@ import java.util.*;
 public class MazeController {
 
     @Autowired
-    private MazeRepository mazeRepository;
+    private MazeStore mazeStore;
+
+    @Autowired
+    private MazeMetrics metrics;
+
+    @Autowired
+    private GenerationLimiter generationLimiter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MazeCache mazeCache;
+
+    @Autowired
+    private MazeJsonWriter mazeJsonWriter;
 
     private static final Random random = new Random();
 
+    // Nombre max de mazes par requête batch
+    private static final int MAX_BATCH_SIZE = 64;
+    // Cellules max sur l'ensemble d'un batch (les specs sont générées en parallèle)
+    private static final long MAX_BATCH_CELLS = 64L * 31 * 28 * 4;
+
+    // Nombre max de résumés par requête
+    private static final int MAX_SUMMARY_LIMIT = 100;
+
+    // Côté et surface max d'un maze streamé (?stream=true) : ~60 octets de JSON par cellule
+    private static final int MAX_STREAM_SIDE = 4_000;
+    private static final long MAX_STREAM_CELLS = 4_000_000L;
+
     // ==================== ROUTES PRINCIPALES ====================
 
     /**
@@ -45,8 +97,8 @@ public class MazeController {
      * Usage : GET /api/maze/random
      */
     @GetMapping("/random")
-    public ResponseEntity<?> generateRandomMaze() {
-        return generatePacmanMaze("rb", 31, 28);
+    public ResponseEntity<StreamingResponseBody> generateRandomMaze() {
+        return generatePacmanMaze("rb", 31, 28, "half");
     }
 
     /**
@@ -61,33 +113,88 @@ public class MazeController {
      * @param algo algorithme: rb, tp, bt, sw (défaut: rb)
      */
     @GetMapping("")
-    public ResponseEntity<?> generateMaze(
+    public ResponseEntity<StreamingResponseBody> generateMaze(
         @RequestParam(defaultValue = "21") int rows,
         @RequestParam(defaultValue = "18") int cols,
         @RequestParam(defaultValue = "rb") String algo) {
 
         try {
-            Grid maze = new Grid(rows, cols);
-
-            switch (algo.toLowerCase()) {
-                case "rb" -> RecursiveBacktracker.on(maze);
-                case "tp" -> TruePrims.on(maze);
-                case "bt" -> BinaryTree.on(maze);
-                case "sw" -> Sidewinder.on(maze);
-                default -> RecursiveBacktracker.on(maze);
-            }
-
-            MazeEntity entity = createMazeEntity(maze, algo);
-            MazeEntity saved = mazeRepository.save(entity);
+            // Génération CPU bornée par le limiter ; la sauvegarde se fait hors permit
+            MazeEntity entity = generationLimiter.call(() -> {
+                Grid maze = new Grid(rows, cols);
+                metrics.time("carve", algo, () -> algorithmFor(algo, new Random()).carve(maze));
+                metrics.mazeSize(rows, cols);
+                return metrics.time("serialization", algo, () -> createMazeEntity(maze, algo));
+            });
+            MazeEntity saved = metrics.time("save." + mazeStore.name(), algo, () -> mazeStore.save(entity));
 
-            return ResponseEntity.ok(toJsonResponse(saved));
+            return streamedMaze(saved);
 
         } catch (Exception e) {
-            return ResponseEntity.status(500)
-                .body(errorResponse("Maze generation failed: " + e.getMessage()));
+            return streamedError(500, "Maze generation failed: " + e.getMessage());
         }
     }
 
+    /**
+     * Streamer un très grand maze ligne par ligne (non sauvegardé)
+     *
+     * Usage : GET /api/maze?stream=true&rows=2000&cols=2000&algo=sw[&seed=42]
+     *
+     * Chaque ligne est écrite et flushée dès qu'elle est définitive : la mémoire
+     * reste proportionnelle à la largeur, pas à la surface.
+     * Même format que les autres réponses (rows, cols, algorithm, totalCells, cells), sans id.
+     * Algorithmes : sw, bt (les seuls qui se génèrent ligne par ligne)
+     */
+    @GetMapping(value = "", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamMaze(
+        @RequestParam(defaultValue = "21") int rows,
+        @RequestParam(defaultValue = "18") int cols,
+        @RequestParam(defaultValue = "sw") String algo,
+        @RequestParam(required = false) Long seed) {
+
+        if (!RowMazeGenerator.supports(algo)) {
+            return streamedError(400, "Streaming supports row-by-row algorithms only: sw, bt");
+        }
+        if (rows < 1 || cols < 1 || rows > MAX_STREAM_SIDE || cols > MAX_STREAM_SIDE
+            || (long) rows * cols > MAX_STREAM_CELLS) {
+            return streamedError(400, "Streamed mazes must be between 1 and " + MAX_STREAM_SIDE
+                + " per side, " + MAX_STREAM_CELLS + " cells max");
+        }
+
+        RowMazeGenerator generator = new RowMazeGenerator(algo, rows, cols,
+            seed == null ? new Random() : new Random(seed));
+        // ✅ Permit de stream tenu pendant toute l'écriture (sémaphore séparé du limiter de génération)
+        StreamingResponseBody body = out -> generationLimiter.stream(() -> {
+            long start = System.nanoTime();
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                json.writeStartObject();
+                json.writeNumberField("rows", rows);
+                json.writeNumberField("cols", cols);
+                json.writeStringField("algorithm", algo);
+                json.writeNumberField("totalCells", (long) rows * cols);
+                json.writeArrayFieldStart("cells");
+                generator.generate((row, walls) -> {
+                    json.writeStartArray();
+                    for (int wall : walls) {
+                        json.writeStartObject();
+                        json.writeBooleanField("north", (wall & RowMazeGenerator.NORTH) != 0);
+                        json.writeBooleanField("south", (wall & RowMazeGenerator.SOUTH) != 0);
+                        json.writeBooleanField("east", (wall & RowMazeGenerator.EAST) != 0);
+                        json.writeBooleanField("west", (wall & RowMazeGenerator.WEST) != 0);
+                        json.writeEndObject();
+                    }
+                    json.writeEndArray();
+                    json.flush();
+                });
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+            metrics.recordStage("stream", algo, System.nanoTime() - start);
+            metrics.mazeSize(rows, cols);
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     /**
      * ⭐ ROUTE PRINCIPALE : Génère un VRAI maze Pac-Man
      *
@@ -97,6 +204,11 @@ public class MazeController {
      * - GET /api/maze/pacman-generated
      * - GET /api/maze/pacman-generated?algo=tp
      * - GET /api/maze/pacman-generated?rows=31&cols=28&algo=rb
+     * - GET /api/maze/pacman-generated?mode=full
+     *
+     * Modes :
+     * - half (défaut) : creuse seulement la moitié gauche puis la recopie en miroir
+     * - full : creuse toute la grille puis applique la symétrie (ancien pipeline)
      *
      * Résultat : Maze 31x28 avec :
      * ✅ Symétrie double
@@ -106,65 +218,78 @@ public class MazeController {
      * ✅ Prêt pour LibGDX
      */
     @GetMapping("/pacman-generated")
-    public ResponseEntity<?> generatePacmanMaze(
+    public ResponseEntity<StreamingResponseBody> generatePacmanMaze(
         @RequestParam(defaultValue = "rb") String algo,
         @RequestParam(defaultValue = "31") int rows,
-        @RequestParam(defaultValue = "28") int cols) {
+        @RequestParam(defaultValue = "28") int cols,
+        @RequestParam(defaultValue = "half") String mode) {
 
         try {
-            // ÉTAPE 1 : Générer maze parfait
-            Grid baseMaze = new Grid(rows, cols);
-
-
-            switch (algo.toLowerCase()) {
-                case "rb" -> RecursiveBacktracker.on(baseMaze);
-                case "tp" -> TruePrims.on(baseMaze);
-                case "bt" -> BinaryTree.on(baseMaze);
-                case "sw" -> Sidewinder.on(baseMaze);
-                default -> RecursiveBacktracker.on(baseMaze);
-            }
-
-            baseMaze.braid(1.0); // Braid 100% pour éliminer tous les dead-ends
-
-            // Rendre imparfait avant adaptation
-            //baseMaze.braid(0.5); // Braid 50% pour plus de cycles initiaux
-
-            // ÉTAPE 2 : Adapter pour Pac-Man
-            PacmanMaze adapter = new PacmanMaze(baseMaze);
-            Grid pacmanMaze = adapter.adapt();
-
-            // Verification
-            pacmanMaze.printStats();
-            boolean valid = pacmanMaze.isPacmanCompliant();
-
-            if (!valid) {
-                System.out.println("Pacman generation failed");
-            }
-
-            // ÉTAPE 3 : Créer l'entité pour MongoDB
-            MazeEntity entity = new MazeEntity();
-            entity.setRows(pacmanMaze.getRows());
-            entity.setCols(pacmanMaze.getColumns());
-            entity.setAlgorithm(algo);
-            entity.setCells(serializeCells(pacmanMaze.getGrid()));
-
-            // ✅ VÉRIFICATION AVANT SAUVEGARDE
-            pacmanMaze.printStats();
-
+            // ÉTAPES 1 à 3 : génération CPU bornée par le limiter
+            MazeEntity entity = generationLimiter.call(() -> buildPacmanEntity(algo, rows, cols, mode, new Random()));
 
             // ÉTAPE 4 : Sauvegarder
-            MazeEntity saved = mazeRepository.save(entity);
+            MazeEntity saved = metrics.time("save." + mazeStore.name(), algo, () -> mazeStore.save(entity));
 
             System.out.println("✅ Pac-Man maze generated: " + saved.getId());
             System.out.println("   - Dimensions: " + rows + "x" + cols);
             System.out.println("   - Algorithm: " + algo);
             System.out.println("   - Properties: Symmetric, Cycles, GhostHouse, Tunnels");
 
-            return ResponseEntity.ok(toJsonResponse(saved));
+            return streamedMaze(saved);
 
         } catch (Exception e) {
-            return ResponseEntity.status(500)
-                .body(errorResponse("Pac-Man maze generation failed: " + e.getMessage()));
+            return streamedError(500, "Pac-Man maze generation failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Générer plusieurs mazes en une seule requête (ex : une campagne de niveaux)
+     *
+     * Usage : POST /api/maze/batch
+     * Body :
+     *   [{"algo": "rb", "seed": 1}, {"algo": "tp", "rows": 21, "cols": 18, "pacman": false}]
+     *
+     * Les specs sont générées en parallèle, sauvegardées en un seul insert groupé,
+     * puis renvoyées dans le même ordre sous forme d'un tableau JSON streamé.
+     * Tailles bornées (voir MazeSpec) : une spec invalide → 400 avec son index, rien n'est généré.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> generateBatch(@RequestBody List<MazeSpec> specs) {
+        if (specs == null || specs.isEmpty() || specs.size() > MAX_BATCH_SIZE) {
+            return streamedError(400, "Batch must contain between 1 and " + MAX_BATCH_SIZE + " specs");
+        }
+        // Toutes les specs sont vérifiées avant de générer quoi que ce soit
+        long totalCells = 0;
+        for (int i = 0; i < specs.size(); i++) {
+            MazeSpec spec = specs.get(i);
+            String problem = spec == null ? "Spec is null" : spec.problem();
+            if (problem != null) {
+                return streamedError(400, "Invalid spec at index " + i + ": " + problem);
+            }
+            totalCells += spec.cellCount();
+        }
+        if (totalCells > MAX_BATCH_CELLS) {
+            return streamedError(400, "Batch too large: " + totalCells + " cells (max " + MAX_BATCH_CELLS + ")");
+        }
+
+        try {
+            List<MazeEntity> entities = generateAll(specs);
+            List<MazeEntity> saved = metrics.time("save." + mazeStore.name(), "batch", () -> mazeStore.saveAll(entities));
+
+            StreamingResponseBody body = out -> {
+                try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                    json.writeStartArray();
+                    for (MazeEntity maze : saved) {
+                        mazeJsonWriter.write(json, maze);
+                    }
+                    json.writeEndArray();
+                }
+            };
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+
+        } catch (Exception e) {
+            return streamedError(500, "Batch generation failed: " + e.getMessage());
         }
     }
 
@@ -176,9 +301,13 @@ public class MazeController {
     @GetMapping("/{id}")
     public ResponseEntity<?> getMazeById(@PathVariable String id) {
         try {
-            Optional<MazeEntity> maze = mazeRepository.findById(id);
-            if (maze.isPresent()) {
-                return ResponseEntity.ok(toJsonResponse(maze.get()));
+            // Read-through : les mazes populaires sont servis sans aller-retour au stockage
+            byte[] json = mazeCache.get(id, key -> metrics.time("load." + mazeStore.name(), null,
+                () -> mazeStore.findById(key))
+                .map(mazeJsonWriter::toBytes)
+                .orElse(null));
+            if (json != null) {
+                return jsonResponse(json);
             } else {
                 return ResponseEntity.status(404)
                     .body(errorResponse("Maze not found with id: " + id));
@@ -197,11 +326,8 @@ public class MazeController {
     @GetMapping("/all")
     public ResponseEntity<?> getAllMazes() {
         try {
-            List<MazeEntity> mazes = mazeRepository.findAll();
-            return ResponseEntity.ok(Map.of(
-                "count", mazes.size(),
-                "mazes", mazes.stream().map(this::toJsonResponse).toList()
-            ));
+            List<MazeEntity> mazes = mazeStore.findAll();
+            return jsonResponse(mazeJsonWriter.toBytes(null, mazes));
         } catch (Exception e) {
             return ResponseEntity.status(500)
                 .body(errorResponse("Error retrieving mazes: " + e.getMessage()));
@@ -211,16 +337,25 @@ public class MazeController {
     /**
      * Récupérer mazes par algorithme
      *
-     * Usage : GET /api/maze/by-algorithm?algo=rb
+     * Usage :
+     * - GET /api/maze/by-algorithm?algo=rb
+     * - GET /api/maze/by-algorithm?algo=rb&summary=true (sans les cellules)
      */
     @GetMapping("/by-algorithm")
-    public ResponseEntity<?> getMazesByAlgorithm(@RequestParam String algo) {
+    public ResponseEntity<?> getMazesByAlgorithm(
+        @RequestParam String algo,
+        @RequestParam(defaultValue = "false") boolean summary) {
         try {
-            List<MazeEntity> mazes = mazeRepository.findByAlgorithm(algo);
+            if (!summary) {
+                return jsonResponse(mazeJsonWriter.toBytes(algo, mazeStore.findByAlgorithm(algo)));
+            }
+            List<Map<String, Object>> mazes = mazeStore.findSummariesByAlgorithm(algo).stream()
+                .map(this::toSummaryResponse)
+                .toList();
             return ResponseEntity.ok(Map.of(
                 "algorithm", algo,
                 "count", mazes.size(),
-                "mazes", mazes.stream().map(this::toJsonResponse).toList()
+                "mazes", mazes
             ));
         } catch (Exception e) {
             return ResponseEntity.status(500)
@@ -228,6 +363,82 @@ public class MazeController {
         }
     }
 
+    /**
+     * Top N des mazes les mieux notés (résumés, sans les cellules)
+     *
+     * Usage :
+     * - GET /api/maze/top-rated?limit=10
+     * - GET /api/maze/top-rated?algo=tp&limit=5
+     */
+    @GetMapping("/top-rated")
+    public ResponseEntity<?> getTopRatedMazes(
+        @RequestParam(required = false) String algo,
+        @RequestParam(defaultValue = "10") int limit) {
+        try {
+            int max = Math.max(1, Math.min(limit, MAX_SUMMARY_LIMIT));
+            List<MazeSummary> mazes = mazeStore.findTopRated(algo, max);
+            return ResponseEntity.ok(Map.of(
+                "count", mazes.size(),
+                "mazes", mazes.stream().map(this::toSummaryResponse).toList()
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                .body(errorResponse("Error retrieving mazes: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * N derniers mazes créés (résumés, sans les cellules)
+     *
+     * Usage : GET /api/maze/recent?limit=20
+     */
+    @GetMapping("/recent")
+    public ResponseEntity<?> getRecentMazes(@RequestParam(defaultValue = "20") int limit) {
+        try {
+            int max = Math.max(1, Math.min(limit, MAX_SUMMARY_LIMIT));
+            List<MazeSummary> mazes = mazeStore.findRecent(max);
+            return ResponseEntity.ok(Map.of(
+                "count", mazes.size(),
+                "mazes", mazes.stream().map(this::toSummaryResponse).toList()
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                .body(errorResponse("Error retrieving mazes: " + e.getMessage()));
+        }
+    }
+
+
+    /**
+     * Rechercher des mazes par métriques de structure (résumés paginés, sans les cellules)
+     *
+     * Usage :
+     * - GET /api/maze/search?minLongestPath=150&sort=longestPath
+     * - GET /api/maze/search?algo=rb&minLoopDensity=0.05&maxDeadEnds=10&page=1&size=20
+     * - GET /api/maze/search?rows=31&cols=28&sort=deadEnds&order=asc
+     *
+     * Critères : voir MazeSearch
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchMazes(@ModelAttribute MazeSearch search) {
+        if (!search.isValidSort()) {
+            return ResponseEntity.status(400)
+                .body(errorResponse("Unknown sort: " + search.sort()
+                    + " (longestPath, deadEnds, loopDensity, createdAt, rating)"));
+        }
+        try {
+            Slice<MazeSummary> found = mazeStore.search(search);
+            return ResponseEntity.ok(Map.of(
+                "page", search.page(),
+                "size", search.size(),
+                "hasNext", found.hasNext(),
+                "count", found.getNumberOfElements(),
+                "mazes", found.getContent().stream().map(this::toSummaryResponse).toList()
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                .body(errorResponse("Error searching mazes: " + e.getMessage()));
+        }
+    }
 
     /**
      * Noter un maze (rating 0-5)
@@ -245,11 +456,10 @@ public class MazeController {
         }
 
         try {
-            Optional<MazeEntity> mazeOpt = mazeRepository.findById(id);
-            if (mazeOpt.isPresent()) {
-                MazeEntity maze = mazeOpt.get();
-                maze.setRating(rating);
-                MazeEntity updated = mazeRepository.save(maze);
+            // Mise à jour atomique : pas de relecture/réécriture du document (et de ses cells)
+            Optional<String> algorithm = mazeStore.rate(id, rating);
+            mazeCache.invalidate(id);
+            if (algorithm.isPresent()) {
                 return ResponseEntity.ok(Map.of(
                     "message", "Maze rated successfully",
                     "id", id,
@@ -265,32 +475,183 @@ public class MazeController {
         }
     }
 
-    // ==================== UTILITAIRES ====================
+    /**
+     * Statistiques de notes par algorithme (nombre de notes, moyenne)
+     *
+     * Usage : GET /api/maze/rating-stats
+     */
+    @GetMapping("/rating-stats")
+    public ResponseEntity<?> getRatingStats() {
+        try {
+            List<Map<String, Object>> stats = mazeStore.ratingStats().stream()
+                .map(s -> {
+                    Map<String, Object> entry = new HashMap<>();
+                    entry.put("algorithm", s.getAlgorithm());
+                    entry.put("count", s.getCount());
+                    entry.put("average", s.getAverage());
+                    return entry;
+                })
+                .toList();
+            return ResponseEntity.ok(Map.of("stats", stats));
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                .body(errorResponse("Error retrieving rating stats: " + e.getMessage()));
+        }
+    }
+
+    // ==================== ARCHIVE (export/import binaire) ====================
+
+    /**
+     * Exporter les mazes dans une archive binaire (voir MazeArchive)
+     *
+     * Usage :
+     * - GET /api/maze/export
+     * - GET /api/maze/export?algo=rb
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMazes(@RequestParam(required = false) String algo) {
+        try {
+            List<MazeEntity> mazes = algo == null ? mazeStore.findAll() : mazeStore.findByAlgorithm(algo);
+            StreamingResponseBody body = out -> MazeArchive.write(mazes, out);
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"mazes.maza\"")
+                .body(body);
+        } catch (Exception e) {
+            return streamedError(500, "Export failed: " + e.getMessage());
+        }
+    }
 
     /**
-     * Convertir Cell[][] en List<List<Map<String, Boolean>>> pour MongoDB
+     * Importer une archive binaire (restauration d'une sauvegarde, pack de niveaux)
+     * Les mazes gardent leur id : un maze déjà présent est remplacé.
      *
-     * Conversion :
-     * - true = MUR (pas de lien)
-     * - false = PASSAGE (lien existe)
+     * Usage : POST /api/maze/import (Content-Type: application/octet-stream, corps = archive)
      */
-    private List<List<Map<String, Boolean>>> serializeCells(Cell[][] cells) {
-        List<List<Map<String, Boolean>>> result = new ArrayList<>();
-
-        for (Cell[] row : cells) {
-            List<Map<String, Boolean>> rowList = new ArrayList<>();
-            for (Cell cell : row) {
-                Map<String, Boolean> cellMap = new HashMap<>();
-                cellMap.put("north", cell.north == null || !cell.isLinked(cell.north));
-                cellMap.put("south", cell.south == null || !cell.isLinked(cell.south));
-                cellMap.put("east", cell.east == null || !cell.isLinked(cell.east));
-                cellMap.put("west", cell.west == null || !cell.isLinked(cell.west));
-                rowList.add(cellMap);
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> importMazes(InputStream body) {
+        Path file = null;
+        try {
+            // Copier l'archive sur disque pour la mapper en mémoire
+            file = Files.createTempFile("maze-import", ".maza");
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+
+            List<MazeEntity> mazes;
+            try (MazeArchive archive = MazeArchive.open(file)) {
+                mazes = archive.readAll();
+            }
+            List<MazeEntity> saved = metrics.time("save." + mazeStore.name(), "import", () -> mazeStore.saveAll(mazes));
+            saved.forEach(maze -> mazeCache.invalidate(maze.getId()));
+
+            return ResponseEntity.ok(Map.of(
+                "message", "Mazes imported successfully",
+                "count", saved.size()
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400)
+                .body(errorResponse("Invalid archive: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                .body(errorResponse("Import failed: " + e.getMessage()));
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                    // fichier temporaire : nettoyé par le système sinon
+                }
             }
-            result.add(rowList);
         }
+    }
+
+    // ==================== UTILITAIRES ====================
 
-        return result;
+    /**
+     * Générer, adapter, valider et sérialiser un maze Pac-Man (travail CPU uniquement)
+     */
+    private MazeEntity buildPacmanEntity(String algo, int rows, int cols, String mode, Random rand) {
+        Grid pacmanMaze;
+        PacmanMaze.StageListener adaptTimer =
+            (stage, nanos) -> metrics.recordStage("adapt." + stage, algo, nanos);
+
+        if ("full".equalsIgnoreCase(mode)) {
+            // ÉTAPE 1 : Générer maze parfait
+            Grid baseMaze = new Grid(rows, cols);
+            metrics.time("carve", algo, () -> algorithmFor(algo, rand).carve(baseMaze));
+
+            metrics.time("braid", algo, () -> baseMaze.braid(1.0, rand)); // Braid 100% pour éliminer tous les dead-ends
+
+            // Rendre imparfait avant adaptation
+            //baseMaze.braid(0.5); // Braid 50% pour plus de cycles initiaux
+
+            // ÉTAPE 2 : Adapter pour Pac-Man
+            PacmanMaze adapter = new PacmanMaze(baseMaze).withStageListener(adaptTimer);
+            pacmanMaze = adapter.adapt(rand);
+        } else {
+            // ÉTAPE 1+2 : Creuser la moitié gauche, miroir direct, puis adapter
+            PacmanMaze adapter = PacmanMaze.fromHalf(algorithmFor(algo, rand), rows, cols, 1.0,
+                (stage, nanos) -> metrics.recordStage(stage, algo, nanos), rand); // carve, braid, mirror
+            pacmanMaze = adapter.withStageListener(adaptTimer).adaptMirrored();
+        }
+        metrics.mazeSize(rows, cols);
+
+        // Verification
+        pacmanMaze.printStats();
+        List<String> violations = metrics.time("validation", algo, pacmanMaze::pacmanViolations);
+
+        if (!violations.isEmpty()) {
+            violations.forEach(metrics::validationFailure);
+            System.out.println("Pacman generation failed: " + violations);
+        }
+
+        // ÉTAPE 3 : Créer l'entité pour MongoDB
+        return metrics.time("serialization", algo, () -> createMazeEntity(pacmanMaze, algo));
+    }
+
+    /**
+     * Résoudre le code d'algorithme (rb, tp, bt, sw) ; rb par défaut
+     */
+    private MazeAlgorithms algorithmFor(String algo, Random rand) {
+        return switch (algo.toLowerCase()) {
+            case "tp" -> new TruePrims(rand);
+            case "bt" -> new BinaryTree(rand);
+            case "sw" -> new Sidewinder(rand);
+            default -> new RecursiveBacktracker(rand);
+        };
+    }
+
+    /**
+     * Générer l'entité d'une spec batch (maze Pac-Man en mode demi-grille, ou maze brut)
+     */
+    private MazeEntity buildEntity(MazeSpec spec) {
+        Random rand = spec.seed() == null ? new Random() : new Random(spec.seed());
+        if (spec.pacman()) {
+            return buildPacmanEntity(spec.algo(), spec.rows(), spec.cols(), "half", rand);
+        }
+
+        Grid maze = new Grid(spec.rows(), spec.cols());
+        metrics.time("carve", spec.algo(), () -> algorithmFor(spec.algo(), rand).carve(maze));
+        metrics.mazeSize(spec.rows(), spec.cols());
+        return metrics.time("serialization", spec.algo(), () -> createMazeEntity(maze, spec.algo()));
+    }
+
+    /**
+     * Générer toutes les specs en parallèle (un virtual thread par spec,
+     * concurrence CPU bornée par le GenerationLimiter), en gardant l'ordre
+     */
+    private List<MazeEntity> generateAll(List<MazeSpec> specs) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<MazeEntity>> futures = new ArrayList<>(specs.size());
+            for (MazeSpec spec : specs) {
+                futures.add(executor.submit(() -> generationLimiter.call(() -> buildEntity(spec))));
+            }
+
+            List<MazeEntity> entities = new ArrayList<>(specs.size());
+            for (Future<MazeEntity> future : futures) {
+                entities.add(future.get());
+            }
+            return entities;
+        }
     }
 
     /**
@@ -301,26 +662,57 @@ public class MazeController {
         entity.setRows(maze.getRows());
         entity.setCols(maze.getColumns());
         entity.setAlgorithm(algorithm);
-        entity.setCells(serializeCells(maze.getGrid()));
+        entity.setCells(WallCodec.cells(maze));
+        entity.setStructure(metrics.time("analysis", algorithm, () -> MazeAnalysis.analyze(maze)));
         return entity;
     }
 
     /**
-     * Convertir MazeEntity en JSON response
+     * Réponse JSON d'un maze écrite directement dans le flux HTTP (voir MazeJsonWriter)
      */
-    private Map<String, Object> toJsonResponse(MazeEntity entity) {
+    private ResponseEntity<StreamingResponseBody> streamedMaze(MazeEntity maze) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(out -> mazeJsonWriter.write(out, maze));
+    }
+
+    /**
+     * Réponse JSON déjà sérialisée (cache L1, listes de mazes)
+     */
+    private ResponseEntity<byte[]> jsonResponse(byte[] json) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(json);
+    }
+
+    /**
+     * Convertir un résumé (projection sans cells) en JSON response
+     */
+    private Map<String, Object> toSummaryResponse(MazeSummary summary) {
         Map<String, Object> response = new HashMap<>();
-        response.put("id", entity.getId());
-        response.put("rows", entity.getRows());
-        response.put("cols", entity.getCols());
-        response.put("algorithm", entity.getAlgorithm());
-        response.put("rating", entity.getRating());
-        response.put("createdAt", entity.getCreatedAt());
-        response.put("totalCells", entity.getRows() * entity.getCols());
-        response.put("cells", entity.getCells());
+        response.put("id", summary.getId());
+        response.put("rows", summary.getRows());
+        response.put("cols", summary.getCols());
+        response.put("algorithm", summary.getAlgorithm());
+        response.put("rating", summary.getRating());
+        response.put("averageRating", summary.getRatingAvg());
+        response.put("createdAt", summary.getCreatedAt());
+        response.put("structure", summary.getStructure());
+        response.put("totalCells", summary.getRows() * summary.getCols());
         return response;
     }
 
+    /**
+     * Réponse d'erreur standardisée pour les routes streamées
+     * (Spring ne streame que les ResponseEntity<StreamingResponseBody> déclarés comme tels)
+     */
+    private ResponseEntity<StreamingResponseBody> streamedError(int status, String message) {
+        Map<String, String> error = errorResponse(message);
+        return ResponseEntity.status(status)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(out -> objectMapper.writeValue(out, error));
+    }
+
     /**
      * Créer une réponse d'erreur standardisée
      */
@@ -0,0 +1,122 @@
+package com.example.demo.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Métriques du pipeline de génération de maze (Micrometer).
+ *
+ * Exposées par Actuator sur /actuator/prometheus :
+ * - maze.generation.stage   : timer par étape (carve, braid, adapt.*, validation, serialization, analysis, stream,
+ *                              save.<backend>, load.<backend> avec backend = mongo | local)
+ * - maze.validation.failures : compteur par raison d'échec de validation
+ * - maze.cells              : histogramme de la taille des mazes générés
+ * - maze.generation.*       : jauges des pools/files (permits libres, threads en attente)
+ */
+@Component
+public class MazeMetrics {
+
+    public static final String STAGE_TIMER = "maze.generation.stage";
+    public static final String VALIDATION_FAILURES = "maze.validation.failures";
+    public static final String MAZE_CELLS = "maze.cells";
+
+    private final MeterRegistry registry;
+    private final DistributionSummary mazeCells;
+
+    public MazeMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.mazeCells = DistributionSummary.builder(MAZE_CELLS)
+            .description("Nombre de cellules par maze généré")
+            .baseUnit("cells")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    /**
+     * Mesurer une étape qui retourne un résultat
+     */
+    public <T> T time(String stage, String algorithm, Supplier<T> step) {
+        long start = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            recordStage(stage, algorithm, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Mesurer une étape sans résultat
+     */
+    public void time(String stage, String algorithm, Runnable step) {
+        long start = System.nanoTime();
+        try {
+            step.run();
+        } finally {
+            recordStage(stage, algorithm, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Enregistrer une durée déjà mesurée (ex : sous-étapes de PacmanMaze.adapt)
+     */
+    public void recordStage(String stage, String algorithm, long nanos) {
+        stageTimer(stage, algorithm).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Compter un échec de validation Pac-Man (raison = propriété non respectée)
+     */
+    public void validationFailure(String reason) {
+        Counter.builder(VALIDATION_FAILURES)
+            .description("Mazes Pac-Man ne respectant pas une propriété")
+            .tag("reason", reason)
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * Enregistrer la taille d'un maze généré
+     */
+    public void mazeSize(int rows, int cols) {
+        mazeCells.record((double) rows * cols);
+    }
+
+    /**
+     * Enregistrer une jauge sur un pool/une file (lue à chaque scrape)
+     */
+    public <T> void gauge(String name, String description, T target, ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value)
+            .description(description)
+            .register(registry);
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    // Tag borné : les codes connus, sinon "other" (évite l'explosion de cardinalité)
+    private static String algorithmTag(String algorithm) {
+        if (algorithm == null) return "none";
+        return switch (algorithm.toLowerCase()) {
+            case "rb", "tp", "bt", "sw" -> algorithm.toLowerCase();
+            default -> "other";
+        };
+    }
+
+    private Timer stageTimer(String stage, String algorithm) {
+        return Timer.builder(STAGE_TIMER)
+            .description("Durée de chaque étape du pipeline de génération")
+            .tag("stage", stage)
+            .tag("algorithm", algorithmTag(algorithm))
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+}
@@ -8,6 +8,19 @@ import java.util.Random;
 
 public class BinaryTree implements  MazeAlgorithms {
 
+    private final Random rand;
+
+    public BinaryTree() {
+        this(new Random());
+    }
+
+    /**
+     * @param rand generator to use (seeded generation)
+     */
+    public BinaryTree(Random rand) {
+        this.rand = rand;
+    }
+
     @Override
     public void carve(Grid grid) {
         for (int i = 0; i < grid.getRows(); i++) {
@@ -22,7 +35,6 @@ public class BinaryTree implements  MazeAlgorithms {
                 }
 
                 if (!neighbors.isEmpty()) {
-                    Random rand = new Random();
                     Cell neighbor = neighbors.get(rand.nextInt(neighbors.size()));
                     cell.link(neighbor, true);
                 }
@@ -9,7 +9,19 @@ import java.util.Random;
 import java.util.Stack;
 
 public class RecursiveBacktracker implements MazeAlgorithms{
-    private static final Random rand = new Random();
+    private final Random rand;
+
+    public RecursiveBacktracker() {
+        this(new Random());
+    }
+
+    /**
+     * @param rand generator to use (seeded generation)
+     */
+    public RecursiveBacktracker(Random rand) {
+        this.rand = rand;
+    }
+
     /**
      * to carve the maze using Recursive Backtracker algorithm
      * @param grid
@@ -17,7 +29,7 @@ public class RecursiveBacktracker implements MazeAlgorithms{
     @Override
     public void carve(Grid grid) {
         Stack<Cell> stack = new Stack<>(); // stack to hold the cells
-        Cell start = grid.randomCell(); // start from a random cell
+        Cell start = grid.randomCell(rand); // start from a random cell
         stack.push(start); // push the start cell to the stack
 
         while (!stack.isEmpty()) { // while stack is not empty
@@ -0,0 +1,126 @@
+package com.example.demo.models.components.algorithms;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Génération ligne par ligne (Sidewinder, Binary Tree) sans construire de Grid.
+ *
+ * Ces deux algorithmes ne relient une ligne qu'à elle-même et à la ligne du dessus :
+ * la ligne i est définitive dès que la ligne i+1 a été creusée. On ne garde donc
+ * que deux lignes en mémoire (O(cols)) et chaque ligne terminée est passée au RowSink.
+ *
+ * Même séquence de tirages que Sidewinder/BinaryTree : à graine égale, le maze
+ * produit est identique à celui de carve(Grid).
+ *
+ * Murs d'une cellule : bits NORTH=1, SOUTH=2, EAST=4, WEST=8 (bit à 1 = mur).
+ */
+public class RowMazeGenerator {
+
+    public static final int NORTH = 1;
+    public static final int SOUTH = 2;
+    public static final int EAST = 4;
+    public static final int WEST = 8;
+    private static final int ALL_WALLS = NORTH | SOUTH | EAST | WEST;
+
+    /**
+     * Reçoit chaque ligne terminée, dans l'ordre (le tableau est réutilisé ensuite)
+     */
+    @FunctionalInterface
+    public interface RowSink {
+        void accept(int row, int[] walls) throws IOException;
+    }
+
+    private final String algo;
+    private final int rows;
+    private final int cols;
+    private final Random rand;
+
+    public RowMazeGenerator(String algo, int rows, int cols, Random rand) {
+        if (!supports(algo)) {
+            throw new IllegalArgumentException("Row-by-row generation supports sw and bt, not " + algo);
+        }
+        this.algo = algo.toLowerCase();
+        this.rows = rows;
+        this.cols = cols;
+        this.rand = rand;
+    }
+
+    /**
+     * Algorithmes pouvant être générés ligne par ligne
+     */
+    public static boolean supports(String algo) {
+        return "sw".equalsIgnoreCase(algo) || "bt".equalsIgnoreCase(algo);
+    }
+
+    /**
+     * Creuser tout le maze en émettant les lignes au fur et à mesure
+     */
+    public void generate(RowSink sink) throws IOException {
+        int[] previous = new int[cols];
+        int[] current = new int[cols];
+
+        for (int i = 0; i < rows; i++) {
+            Arrays.fill(current, ALL_WALLS);
+            if ("sw".equals(algo)) {
+                sidewinderRow(i, previous, current);
+            } else {
+                binaryTreeRow(i, previous, current);
+            }
+
+            // La ligne du dessus ne changera plus
+            if (i > 0) sink.accept(i - 1, previous);
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        if (rows > 0) sink.accept(rows - 1, previous);
+    }
+
+    private void sidewinderRow(int i, int[] above, int[] row) {
+        int runStart = 0;
+        for (int j = 0; j < cols; j++) {
+            boolean atEasternBoundary = j == cols - 1;
+            boolean atNorthernBoundary = i == 0;
+
+            boolean shouldCloseOut = atEasternBoundary || (!atNorthernBoundary && rand.nextBoolean());
+
+            if (shouldCloseOut) {
+                int member = runStart + rand.nextInt(j - runStart + 1);
+                if (!atNorthernBoundary) linkNorth(above, row, member);
+                runStart = j + 1;
+            } else {
+                linkEast(row, j);
+            }
+        }
+    }
+
+    private void binaryTreeRow(int i, int[] above, int[] row) {
+        for (int j = 0; j < cols; j++) {
+            boolean hasNorth = i > 0;
+            boolean hasEast = j < cols - 1;
+            int neighbors = (hasNorth ? 1 : 0) + (hasEast ? 1 : 0);
+
+            if (neighbors > 0) {
+                int pick = rand.nextInt(neighbors);
+                if (hasNorth && pick == 0) {
+                    linkNorth(above, row, j);
+                } else {
+                    linkEast(row, j);
+                }
+            }
+        }
+    }
+
+    private static void linkNorth(int[] above, int[] row, int j) {
+        row[j] &= ~NORTH;
+        above[j] &= ~SOUTH;
+    }
+
+    private static void linkEast(int[] row, int j) {
+        row[j] &= ~EAST;
+        row[j + 1] &= ~WEST;
+    }
+}
@@ -9,7 +9,19 @@ import java.util.Random;
 
 public class Sidewinder implements MazeAlgorithms{
 
-    private static final Random rand = new Random();
+    private final Random rand;
+
+    public Sidewinder() {
+        this(new Random());
+    }
+
+    /**
+     * @param rand generator to use (seeded generation)
+     */
+    public Sidewinder(Random rand) {
+        this.rand = rand;
+    }
+
     /**
      * Carve passages in the grid using the Sidewinder algorithm.
      * @param grid
@@ -7,13 +7,25 @@ import com.example.demo.models.components.maze.Grid;
 import java.util.*;
 
 public class TruePrims implements MazeAlgorithms {
-    private final Random rand = new Random();
+    private final Random rand;
+
+    public TruePrims() {
+        this(new Random());
+    }
+
+    /**
+     * @param rand generator to use (seeded generation)
+     */
+    public TruePrims(Random rand) {
+        this.rand = rand;
+    }
+
     /**
      * @param grid
      */
     @Override
     public void carve(Grid grid) {
-        Cell start = grid.randomCell();
+        Cell start = grid.randomCell(rand);
         List<Cell> active = new ArrayList<>();
         active.add(start);
 
@@ -0,0 +1,219 @@
+package com.example.demo.models.components.maze;
+
+import java.util.Arrays;
+
+/**
+ * Étiquetage des composantes connexes d'une Grid.
+ *
+ * Chaque cellule a un id dense : id = row * cols + col.
+ * Un seul BFS par composante sur des tableaux int (pas de HashSet, pas de boxing),
+ * donc O(rows × cols) au total.
+ */
+public final class ConnectedComponents {
+
+    // Coût max d'un mur : 4 liens de chaque côté
+    private static final int MAX_COST = 8;
+
+    private final int columns;
+    private final int[] labels;
+    private final int[] sizes;
+
+    private ConnectedComponents(int columns, int[] labels, int[] sizes) {
+        this.columns = columns;
+        this.labels = labels;
+        this.sizes = sizes;
+    }
+
+    /**
+     * Étiqueter toutes les cellules de la grille.
+     */
+    public static ConnectedComponents label(Grid grid) {
+        int rows = grid.getRows();
+        int cols = grid.getColumns();
+        int n = rows * cols;
+        Cell[][] cells = grid.getGrid();
+
+        int[] labels = new int[n];
+        int[] sizes = new int[n];
+        int[] queue = new int[n];
+        Arrays.fill(labels, -1);
+
+        int count = 0;
+        for (int start = 0; start < n; start++) {
+            if (labels[start] != -1) continue;
+
+            int head = 0, tail = 0;
+            queue[tail++] = start;
+            labels[start] = count;
+
+            while (head < tail) {
+                int id = queue[head++];
+                Cell cell = cells[id / cols][id % cols];
+
+                if (cell.isLinked(cell.north) && labels[id - cols] == -1) {
+                    labels[id - cols] = count;
+                    queue[tail++] = id - cols;
+                }
+                if (cell.isLinked(cell.south) && labels[id + cols] == -1) {
+                    labels[id + cols] = count;
+                    queue[tail++] = id + cols;
+                }
+                if (cell.isLinked(cell.west) && labels[id - 1] == -1) {
+                    labels[id - 1] = count;
+                    queue[tail++] = id - 1;
+                }
+                if (cell.isLinked(cell.east) && labels[id + 1] == -1) {
+                    labels[id + 1] = count;
+                    queue[tail++] = id + 1;
+                }
+            }
+            sizes[count++] = tail;
+        }
+
+        return new ConnectedComponents(cols, labels, Arrays.copyOf(sizes, count));
+    }
+
+    /**
+     * Rendre la grille connexe en ouvrant les murs les moins chers entre composantes.
+     *
+     * Coût d'un mur = nombre de liens existants des deux cellules : on prolonge
+     * de préférence des couloirs/dead-ends plutôt que de créer des carrefours.
+     * Les murs sont triés par coût (tri par comptage) puis ouverts façon Kruskal
+     * avec un union-find sur les composantes : exactement ce qu'il faut pour tout relier.
+     *
+     * @param grid      grille à réparer
+     * @param locked    cellules à ne jamais ouvrir (indexées par id), ou null
+     * @param symmetric si true, ouvre aussi le mur miroir (gauche ↔ droite)
+     * @return nombre de murs ouverts
+     */
+    public static int repair(Grid grid, boolean[] locked, boolean symmetric) {
+        ConnectedComponents components = label(grid);
+        if (components.count() <= 1) return 0;
+
+        int rows = grid.getRows();
+        int cols = grid.getColumns();
+        int n = rows * cols;
+        Cell[][] cells = grid.getGrid();
+        int[] labels = components.labels;
+
+        // Murs candidats encodés en id * 2 + (0 = est, 1 = sud), triés par coût
+        int[] costCounts = new int[MAX_COST + 2];
+        int[] wallCosts = new int[n * 2];
+        Arrays.fill(wallCosts, -1);
+        for (int id = 0; id < n; id++) {
+            if (locked != null && locked[id]) continue;
+            Cell cell = cells[id / cols][id % cols];
+
+            if (cell.east != null && labels[id] != labels[id + 1] && !isLocked(locked, id + 1)) {
+                int cost = cell.links().size() + cell.east.links().size();
+                wallCosts[id * 2] = cost;
+                costCounts[cost + 1]++;
+            }
+            if (cell.south != null && labels[id] != labels[id + cols] && !isLocked(locked, id + cols)) {
+                int cost = cell.links().size() + cell.south.links().size();
+                wallCosts[id * 2 + 1] = cost;
+                costCounts[cost + 1]++;
+            }
+        }
+        for (int c = 1; c < costCounts.length; c++) {
+            costCounts[c] += costCounts[c - 1];
+        }
+        int[] walls = new int[costCounts[MAX_COST + 1]];
+        for (int w = 0; w < wallCosts.length; w++) {
+            if (wallCosts[w] >= 0) walls[costCounts[wallCosts[w]]++] = w;
+        }
+
+        // Kruskal sur les composantes
+        int[] parent = new int[components.count()];
+        for (int i = 0; i < parent.length; i++) parent[i] = i;
+
+        int remaining = components.count() - 1;
+        int opened = 0;
+        for (int i = 0; i < walls.length && remaining > 0; i++) {
+            int a = walls[i] >> 1;
+            int b = (walls[i] & 1) == 0 ? a + 1 : a + cols;
+
+            int ra = find(parent, labels[a]);
+            int rb = find(parent, labels[b]);
+            if (ra == rb) continue;
+
+            cells[a / cols][a % cols].link(cells[b / cols][b % cols]);
+            parent[ra] = rb;
+            remaining--;
+            opened++;
+
+            if (symmetric) {
+                int ma = mirror(a, cols);
+                int mb = mirror(b, cols);
+                Cell left = cells[ma / cols][ma % cols];
+                Cell right = cells[mb / cols][mb % cols];
+                if (left.isLinked(right) || isLocked(locked, ma) || isLocked(locked, mb)) continue;
+
+                left.link(right);
+                opened++;
+                int rma = find(parent, labels[ma]);
+                int rmb = find(parent, labels[mb]);
+                if (rma != rmb) {
+                    parent[rma] = rmb;
+                    remaining--;
+                }
+            }
+        }
+        return opened;
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /** Nombre de composantes */
+    public int count() {
+        return sizes.length;
+    }
+
+    /** Composante de la cellule (row, col) */
+    public int componentOf(int row, int col) {
+        return labels[row * columns + col];
+    }
+
+    /** Nombre de cellules de la composante */
+    public int sizeOf(int component) {
+        return sizes[component];
+    }
+
+    /** Id de la plus grande composante */
+    public int largest() {
+        int best = 0;
+        for (int c = 1; c < sizes.length; c++) {
+            if (sizes[c] > sizes[best]) best = c;
+        }
+        return best;
+    }
+
+    /** Copie des étiquettes, indexées par id de cellule */
+    public int[] labels() {
+        return labels.clone();
+    }
+
+    /** Copie des tailles, indexées par id de composante */
+    public int[] sizes() {
+        return sizes.clone();
+    }
+
+    // ==================== UTILITAIRES ====================
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private static int mirror(int id, int cols) {
+        int col = id % cols;
+        return id - col + (cols - 1 - col);
+    }
+
+    private static boolean isLocked(boolean[] locked, int id) {
+        return locked != null && locked[id];
+    }
+}
@@ -88,7 +88,11 @@ public class Grid {
 
     /** Get random cell from the grid */
     public Cell randomCell() {
-        Random rand = new Random();
+        return randomCell(new Random());
+    }
+
+    /** Get random cell from the grid using the given generator (seeded generation) */
+    public Cell randomCell(Random rand) {
         int row = rand.nextInt(rows);
         int column = rand.nextInt(columns);
         return getCell(row, column);
@@ -195,9 +199,13 @@ public class Grid {
 
     /** Braid the maze by removing dead ends with probability p (0.0–1.0) */
     public void braid(double p) {
+        braid(p, new Random());
+    }
+
+    /** Braid using the given generator (seeded generation) */
+    public void braid(double p, Random rand) {
         List<Cell> ends = new ArrayList<>(deadEnds());
-        Collections.shuffle(ends);
-        Random rand = new Random();
+        Collections.shuffle(ends, rand);
         for (Cell cell : ends) {
             if (cell.links().size() != 1 || rand.nextDouble() > p) continue;
 
@@ -441,37 +449,18 @@ public class Grid {
     /**
      * Vérifier si toutes les zones sont accessibles (connexe)
      *
-     * @return true si toutes les cellules (hors Ghost House) sont accessibles
+     * @return true si toutes les cellules forment une seule composante
      */
     public boolean isFullyConnected() {
-        Set<Cell> visited = new HashSet<>();
-        Queue<Cell> queue = new LinkedList<>();
-
-        // Commencer à (0,0)
-        Cell start = getCell(0, 0);
-        if (start == null) return false;
-
-        queue.add(start);
-        visited.add(start);
-
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            for (Cell neighbor : current.links()) {
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    queue.add(neighbor);
-                }
-            }
-        }
-
-        int totalCells = getRows() * getColumns();
-        int accessibleCells = visited.size();
+        if (size() == 0) return false;
 
-        // On attend au moins 95% des cellules accessibles (Ghost House = 9 cells)
-        boolean connected = accessibleCells >= totalCells * 0.95;
+        ConnectedComponents components = ConnectedComponents.label(this);
+        boolean connected = components.count() == 1;
 
         if (!connected) {
-            System.out.println("❌ Seulement " + accessibleCells + "/" + totalCells + " cellules accessibles");
+            int accessibleCells = components.sizeOf(components.componentOf(0, 0));
+            System.out.println("❌ Seulement " + accessibleCells + "/" + size() + " cellules accessibles ("
+                + components.count() + " composantes)");
         }
 
         return connected;
@@ -513,6 +502,23 @@ public class Grid {
         return compliant;
     }
 
+    /**
+     * Liste des propriétés Pac-Man non respectées (vide = maze valide)
+     *
+     * Raisons possibles : horizontal-symmetry, vertical-symmetry, cycles,
+     * ghost-house, tunnels, connectivity
+     */
+    public List<String> pacmanViolations() {
+        List<String> violations = new ArrayList<>();
+        if (!isHorizontallySymmetric()) violations.add("horizontal-symmetry");
+        if (!isVerticallySymmetric()) violations.add("vertical-symmetry");
+        if (!hasMultiplePaths()) violations.add("cycles");
+        if (!hasGhostHouse()) violations.add("ghost-house");
+        if (!hasTunnels()) violations.add("tunnels");
+        if (!isFullyConnected()) violations.add("connectivity");
+        return violations;
+    }
+
     /**
      * Afficher statistiques du maze
      */
@@ -530,30 +536,13 @@ public class Grid {
      * Compter cellules accessibles
      */
     private int countAccessibleCells() {
-        Set<Cell> visited = new HashSet<>();
-        Queue<Cell> queue = new LinkedList<>();
-
-        Cell start = getCell(0, 0);
-        if (start == null) return 0;
-
-        queue.add(start);
-        visited.add(start);
+        if (size() == 0) return 0;
 
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            for (Cell neighbor : current.links()) {
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    queue.add(neighbor);
-                }
-            }
-        }
-
-        return visited.size();
+        ConnectedComponents components = ConnectedComponents.label(this);
+        return components.sizeOf(components.componentOf(0, 0));
     }
 
 
 
 
 }
-
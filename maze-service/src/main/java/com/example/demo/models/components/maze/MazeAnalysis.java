@@ -0,0 +1,207 @@
+package com.example.demo.models.components.maze;
+
+import com.example.demo.models.entities.MazeStructure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Analyse de structure d'un maze en passes linéaires sur des tableaux int.
+ *
+ * Entrée : bits de passages par cellule (id = row * cols + col),
+ * NORTH=1, SOUTH=2, EAST=4, WEST=8 (bit à 1 = PASSAGE ouvert).
+ *
+ * - Passe 1 : degrés → dead-ends, carrefours, arêtes, facteur de branchement
+ * - Passe 2 : un BFS par composante → C (donc cycles = E - V + C), et la cellule
+ *   la plus éloignée du départ dans la plus grande composante
+ * - Passe 3 : BFS depuis cette cellule → plus long plus court chemin (double BFS)
+ * - Couloirs : chaque chaîne de passages simples (degré 2) est parcourue depuis ses deux bouts
+ */
+public final class MazeAnalysis {
+
+    public static final int NORTH = 1;
+    public static final int SOUTH = 2;
+    public static final int EAST = 4;
+    public static final int WEST = 8;
+
+    // Dernière case de l'histogramme des couloirs : longueur >= MAX_CORRIDOR
+    public static final int MAX_CORRIDOR = 16;
+
+    private final int rows;
+    private final int cols;
+    private final int[] open;
+
+    private MazeAnalysis(int rows, int cols, int[] open) {
+        this.rows = rows;
+        this.cols = cols;
+        this.open = open;
+    }
+
+    /**
+     * Analyser une Grid
+     */
+    public static MazeStructure analyze(Grid grid) {
+        int cols = grid.getColumns();
+        int[] open = new int[grid.getRows() * cols];
+        for (Cell[] row : grid.getGrid()) {
+            for (Cell cell : row) {
+                int bits = 0;
+                if (cell.isLinked(cell.north)) bits |= NORTH;
+                if (cell.isLinked(cell.south)) bits |= SOUTH;
+                if (cell.isLinked(cell.east)) bits |= EAST;
+                if (cell.isLinked(cell.west)) bits |= WEST;
+                open[cell.row * cols + cell.col] = bits;
+            }
+        }
+        return new MazeAnalysis(grid.getRows(), cols, open).run();
+    }
+
+    /**
+     * Analyser à partir des bits de passages (ex : murs relus du stockage, inversés)
+     *
+     * ✅ Les bits viennent de données non fiables (import, relecture du journal) :
+     * un passage n'est retenu que si les deux voisines l'ont ouvert
+     */
+    public static MazeStructure analyze(int rows, int cols, int[] open) {
+        return new MazeAnalysis(rows, cols, normalize(rows, cols, open)).run();
+    }
+
+    /**
+     * Vrai si chaque passage ouvert l'est aussi chez la voisine (et ne sort pas de la grille)
+     */
+    public static boolean isConsistent(int rows, int cols, int[] open) {
+        return Arrays.equals(open, normalize(rows, cols, open));
+    }
+
+    // Copie où ne restent que les passages ouverts des deux côtés
+    private static int[] normalize(int rows, int cols, int[] open) {
+        int[] agreed = new int[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int id = r * cols + c;
+                int bits = open[id];
+                if ((bits & NORTH) != 0 && r > 0 && (open[id - cols] & SOUTH) != 0) agreed[id] |= NORTH;
+                if ((bits & SOUTH) != 0 && r < rows - 1 && (open[id + cols] & NORTH) != 0) agreed[id] |= SOUTH;
+                if ((bits & EAST) != 0 && c < cols - 1 && (open[id + 1] & WEST) != 0) agreed[id] |= EAST;
+                if ((bits & WEST) != 0 && c > 0 && (open[id - 1] & EAST) != 0) agreed[id] |= WEST;
+            }
+        }
+        return agreed;
+    }
+
+    private MazeStructure run() {
+        int n = rows * cols;
+        if (n == 0) return new MazeStructure(0, 0, 0, 0, 0, 0, new ArrayList<>());
+
+        // Passe 1 : degrés
+        int deadEnds = 0, intersections = 0, degreeSum = 0, passable = 0, branches = 0;
+        for (int id = 0; id < n; id++) {
+            int degree = Integer.bitCount(open[id]);
+            degreeSum += degree;
+            if (degree == 1) deadEnds++;
+            if (degree >= 3) intersections++;
+            if (degree >= 2) {
+                passable++;
+                branches += degree - 1;
+            }
+        }
+        int edges = degreeSum / 2;
+
+        // Passe 2 : composantes (+ point le plus éloigné du départ de la plus grande)
+        int[] dist = new int[n];
+        int[] queue = new int[n];
+        Arrays.fill(dist, -1);
+        int components = 0, largestSize = 0, farthest = 0;
+        for (int start = 0; start < n; start++) {
+            if (dist[start] != -1) continue;
+            components++;
+            int size = bfs(start, dist, queue);
+            if (size > largestSize) {
+                largestSize = size;
+                farthest = queue[size - 1]; // dernier sorti du BFS = le plus éloigné
+            }
+        }
+
+        // Passe 3 : second BFS depuis l'extrémité trouvée
+        Arrays.fill(dist, -1);
+        int size = bfs(farthest, dist, queue);
+        int longestPath = dist[queue[size - 1]];
+
+        int cycles = edges - n + components;
+        return new MazeStructure(
+            deadEnds,
+            intersections,
+            longestPath,
+            passable == 0 ? 0 : (double) branches / passable,
+            cycles,
+            (double) cycles / n,
+            corridorHistogram()
+        );
+    }
+
+    // BFS depuis start ; retourne le nombre de cellules atteintes (dans queue, par distance croissante)
+    private int bfs(int start, int[] dist, int[] queue) {
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        dist[start] = 0;
+        while (head < tail) {
+            int id = queue[head++];
+            int bits = open[id];
+            int d = dist[id] + 1;
+            if ((bits & NORTH) != 0 && dist[id - cols] == -1) { dist[id - cols] = d; queue[tail++] = id - cols; }
+            if ((bits & SOUTH) != 0 && dist[id + cols] == -1) { dist[id + cols] = d; queue[tail++] = id + cols; }
+            if ((bits & WEST) != 0 && dist[id - 1] == -1) { dist[id - 1] = d; queue[tail++] = id - 1; }
+            if ((bits & EAST) != 0 && dist[id + 1] == -1) { dist[id + 1] = d; queue[tail++] = id + 1; }
+        }
+        return tail;
+    }
+
+    // Couloirs entre cellules "nœuds" (degré != 2) : chaque couloir est vu depuis ses deux bouts
+    private List<Integer> corridorHistogram() {
+        int[] counts = new int[MAX_CORRIDOR + 1];
+        for (int id = 0; id < open.length; id++) {
+            int bits = open[id];
+            if (Integer.bitCount(bits) == 2 || bits == 0) continue;
+
+            for (int dir = NORTH; dir <= WEST; dir <<= 1) {
+                if ((bits & dir) == 0) continue;
+
+                int length = 1;
+                int from = opposite(dir);
+                int current = step(id, dir);
+                while (Integer.bitCount(open[current]) == 2) {
+                    int next = open[current] & ~from; // seule autre sortie
+                    from = opposite(next);
+                    current = step(current, next);
+                    length++;
+                }
+                counts[Math.min(length, MAX_CORRIDOR)]++;
+            }
+        }
+
+        List<Integer> histogram = new ArrayList<>(counts.length);
+        for (int count : counts) {
+            histogram.add(count / 2);
+        }
+        return histogram;
+    }
+
+    private int step(int id, int dir) {
+        return switch (dir) {
+            case NORTH -> id - cols;
+            case SOUTH -> id + cols;
+            case EAST -> id + 1;
+            default -> id - 1;
+        };
+    }
+
+    private static int opposite(int dir) {
+        return switch (dir) {
+            case NORTH -> SOUTH;
+            case SOUTH -> NORTH;
+            case EAST -> WEST;
+            default -> EAST;
+        };
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.demo.models.components.maze;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Overlay pré-compilé appliqué sur une Grid (Ghost House, tunnels, alcôves).
+ *
+ * Chaque entrée du template est une cellule (row, col) avec deux masques 4 bits :
+ * - defined : directions imposées par le template
+ * - open    : parmi elles, celles qui sont des passages (les autres deviennent des murs)
+ *
+ * Les templates sont compilés une fois par taille de maze puis réutilisés
+ * (cache borné : les tailles viennent des requêtes).
+ * L'application se fait en une seule passe, en O(nombre de cellules du template).
+ */
+public final class MazeTemplate {
+
+    public static final int NORTH = 1;
+    public static final int SOUTH = 2;
+    public static final int EAST  = 4;
+    public static final int WEST  = 8;
+    public static final int ALL   = NORTH | SOUTH | EAST | WEST;
+
+    // Dimensions officielles de la Ghost House Pac-Man
+    private static final int GH_HEIGHT = 4;
+    private static final int GH_WIDTH  = 8;
+
+    // Quelques tailles servent presque toutes les requêtes (31×28 en tête) : LRU de 64 par template
+    public static final int CACHE_SIZE = 64;
+
+    private static final Cache<Long, MazeTemplate> GHOST_HOUSES = newCache();
+    private static final Cache<Long, MazeTemplate> TUNNELS = newCache();
+    private static final Cache<Long, MazeTemplate> ALCOVES = newCache();
+
+    private final String name;
+    private final int[] rows;
+    private final int[] cols;
+    private final byte[] defined;
+    private final byte[] open;
+    private int size;
+
+    private MazeTemplate(String name, int capacity) {
+        this.name = name;
+        this.rows = new int[capacity];
+        this.cols = new int[capacity];
+        this.defined = new byte[capacity];
+        this.open = new byte[capacity];
+    }
+
+    // ==================== TEMPLATES ====================
+
+    /**
+     * Ghost House 4×8 centrée (4×9 si le nombre de colonnes est impair, pour rester
+     * symétrique), intérieur ouvert, isolée du reste du maze,
+     * avec 2 portes symétriques en bas à gauche et en bas à droite.
+     */
+    public static MazeTemplate ghostHouse(int rows, int cols) {
+        return GHOST_HOUSES.get(key(rows, cols), k -> compileGhostHouse(rows, cols));
+    }
+
+    /**
+     * Tunnels latéraux sur la ligne du milieu : col 0 ↔ col 1 et col N-1 ↔ col N-2.
+     */
+    public static MazeTemplate tunnels(int rows, int cols) {
+        return TUNNELS.get(key(rows, cols), k -> compileTunnels(rows, cols));
+    }
+
+    /**
+     * Alcôves des super-pastilles : une niche horizontale de 2 cellules
+     * dans chaque coin (lignes 2 et N-3), ouverte uniquement vers l'intérieur.
+     */
+    public static MazeTemplate powerPelletAlcoves(int rows, int cols) {
+        return ALCOVES.get(key(rows, cols), k -> compileAlcoves(rows, cols));
+    }
+
+    private static MazeTemplate compileGhostHouse(int rows, int cols) {
+        int top    = rows / 2 - GH_HEIGHT / 2;
+        int bottom = top + GH_HEIGHT - 1;
+        int width  = GH_WIDTH + (cols & 1);   // miroir c ↔ cols-1-c exact
+        int left   = (cols - width) / 2;
+        int right  = left + width - 1;
+
+        MazeTemplate t = new MazeTemplate("ghost-house", GH_HEIGHT * width);
+        for (int r = top; r <= bottom; r++) {
+            for (int c = left; c <= right; c++) {
+                int mask = 0;
+                if (r > top)    mask |= NORTH;
+                if (r < bottom) mask |= SOUTH;
+                if (c > left)   mask |= WEST;
+                if (c < right)  mask |= EAST;
+
+                // Portes : bas-gauche et bas-droite
+                if (r == bottom && (c == left || c == right)) mask |= SOUTH;
+
+                t.put(r, c, ALL, mask);
+            }
+        }
+        return t;
+    }
+
+    private static MazeTemplate compileTunnels(int rows, int cols) {
+        int tunnelRow = rows / 2;
+
+        MazeTemplate t = new MazeTemplate("tunnels", 2);
+        t.put(tunnelRow, 0, EAST, EAST);
+        t.put(tunnelRow, cols - 1, WEST, WEST);
+        return t;
+    }
+
+    private static MazeTemplate compileAlcoves(int rows, int cols) {
+        MazeTemplate t = new MazeTemplate("power-pellet-alcoves", 8);
+        for (int r : new int[] { 2, rows - 3 }) {
+            // Gauche : fond de la niche au bord, entrée vers l'est
+            t.put(r, 0, ALL, EAST);
+            t.put(r, 1, ALL, EAST | WEST);
+            // Droite : miroir
+            t.put(r, cols - 1, ALL, WEST);
+            t.put(r, cols - 2, ALL, EAST | WEST);
+        }
+        return t;
+    }
+
+    // ==================== APPLICATION ====================
+
+    /**
+     * Appliquer le template sur la grille (une passe, liens bidirectionnels).
+     */
+    public void applyTo(Grid grid) {
+        for (int i = 0; i < size; i++) {
+            Cell cell = grid.getCell(rows[i], cols[i]);
+            if (cell == null) continue;
+
+            int d = defined[i];
+            int o = open[i];
+            if ((d & NORTH) != 0) carve(cell, cell.north, (o & NORTH) != 0);
+            if ((d & SOUTH) != 0) carve(cell, cell.south, (o & SOUTH) != 0);
+            if ((d & EAST) != 0)  carve(cell, cell.east,  (o & EAST) != 0);
+            if ((d & WEST) != 0)  carve(cell, cell.west,  (o & WEST) != 0);
+        }
+    }
+
+    /**
+     * Marquer les cellules couvertes dans un masque indexé par id (row * cols + col).
+     */
+    public void markCells(Grid grid, boolean[] mask) {
+        for (int i = 0; i < size; i++) {
+            if (grid.getCell(rows[i], cols[i]) != null) {
+                mask[rows[i] * grid.getColumns() + cols[i]] = true;
+            }
+        }
+    }
+
+    /** Nombre de cellules couvertes par le template */
+    public int size() {
+        return size;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MazeTemplate{%s, cells=%d}", name, size);
+    }
+
+    // ==================== UTILITAIRES ====================
+
+    private void put(int row, int col, int definedMask, int openMask) {
+        rows[size] = row;
+        cols[size] = col;
+        defined[size] = (byte) definedMask;
+        open[size] = (byte) (openMask & definedMask);
+        size++;
+    }
+
+    private static void carve(Cell cell, Cell neighbor, boolean passage) {
+        if (neighbor == null) return;
+        if (passage) {
+            cell.link(neighbor);
+        } else {
+            cell.unlink(neighbor);
+        }
+    }
+
+    private static Cache<Long, MazeTemplate> newCache() {
+        return Caffeine.newBuilder().maximumSize(CACHE_SIZE).build();
+    }
+
+    private static long key(int rows, int cols) {
+        return ((long) rows << 32) | (cols & 0xffffffffL);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.models.dto;
+
+import com.example.demo.models.entities.MazeStructure;
+import com.example.demo.models.entities.MazeSummary;
+
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Critères de recherche de mazes par métriques de structure (GET /api/maze/search)
+ *
+ * Exemple :
+ *   /api/maze/search?algo=rb&minLongestPath=120&minLoopDensity=0.05&sort=longestPath&page=0&size=20
+ *
+ * Champs optionnels (null = pas de filtre) :
+ * - algo, rows, cols                  : égalité
+ * - min/maxDeadEnds, min/maxLongestPath, min/maxLoopDensity : bornes incluses
+ * - sort  : longestPath (défaut), deadEnds, loopDensity, createdAt, rating (moyenne des notes)
+ * - order : desc (défaut) ou asc
+ * - page / size : pagination (size entre 1 et 100, défaut 20)
+ */
+public record MazeSearch(String algo, Integer rows, Integer cols,
+                         Integer minDeadEnds, Integer maxDeadEnds,
+                         Integer minLongestPath, Integer maxLongestPath,
+                         Double minLoopDensity, Double maxLoopDensity,
+                         String sort, String order, Integer page, Integer size) {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Champ de tri → chemin MongoDB
+    private static final Map<String, String> SORT_PATHS = Map.of(
+        "longestPath", "structure.longestPath",
+        "deadEnds", "structure.deadEnds",
+        "loopDensity", "structure.loopDensity",
+        "createdAt", "createdAt",
+        "rating", "ratingAvg"
+    );
+
+    public MazeSearch {
+        if (sort == null) sort = "longestPath";
+        if (order == null) order = "desc";
+        if (page == null || page < 0) page = 0;
+        if (size == null) size = 20;
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    public boolean isValidSort() {
+        return SORT_PATHS.containsKey(sort);
+    }
+
+    public boolean ascending() {
+        return "asc".equalsIgnoreCase(order);
+    }
+
+    /**
+     * Chemin MongoDB du champ de tri
+     */
+    public String sortPath() {
+        return SORT_PATHS.get(sort);
+    }
+
+    /**
+     * Le résumé respecte-t-il tous les filtres ? (stockage local)
+     */
+    public boolean matches(MazeSummary maze) {
+        if (algo != null && !algo.equals(maze.getAlgorithm())) return false;
+        if (rows != null && rows != maze.getRows()) return false;
+        if (cols != null && cols != maze.getCols()) return false;
+
+        boolean structureFilter = minDeadEnds != null || maxDeadEnds != null || minLongestPath != null
+            || maxLongestPath != null || minLoopDensity != null || maxLoopDensity != null;
+        MazeStructure s = maze.getStructure();
+        if (s == null) return !structureFilter;
+
+        return within(s.getDeadEnds(), minDeadEnds, maxDeadEnds)
+            && within(s.getLongestPath(), minLongestPath, maxLongestPath)
+            && (minLoopDensity == null || s.getLoopDensity() >= minLoopDensity)
+            && (maxLoopDensity == null || s.getLoopDensity() <= maxLoopDensity);
+    }
+
+    /**
+     * Ordre de tri demandé (stockage local) ; mazes sans valeur en dernier
+     */
+    public Comparator<MazeSummary> comparator() {
+        Comparator<Double> values = ascending() ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        return Comparator.comparing(this::sortValue, Comparator.nullsLast(values));
+    }
+
+    private Double sortValue(MazeSummary maze) {
+        MazeStructure s = maze.getStructure();
+        return switch (sort) {
+            case "deadEnds" -> s == null ? null : (double) s.getDeadEnds();
+            case "loopDensity" -> s == null ? null : s.getLoopDensity();
+            case "createdAt" -> maze.getCreatedAt() == null ? null : maze.getCreatedAt().doubleValue();
+            case "rating" -> maze.getRatingAvg();
+            default -> s == null ? null : (double) s.getLongestPath();
+        };
+    }
+
+    private static boolean within(int value, Integer min, Integer max) {
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+}
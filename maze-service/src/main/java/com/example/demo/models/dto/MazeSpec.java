@@ -0,0 +1,47 @@
+package com.example.demo.models.dto;
+
+/**
+ * Spécification d'un maze dans une requête batch (POST /api/maze/batch)
+ *
+ * Exemple :
+ *   {"algo": "tp", "rows": 31, "cols": 28, "seed": 42, "pacman": true}
+ *
+ * Champs optionnels :
+ * - algo   : rb, tp, bt, sw (défaut : rb)
+ * - pacman : maze Pac-Man adapté ou maze brut (défaut : true)
+ * - rows / cols : défaut 31x28 (Pac-Man) ou 21x18 (brut)
+ * - seed   : rend la génération reproductible (null = aléatoire)
+ *
+ * Bornes (vérifiées par {@link #problem()} avant toute génération) :
+ * - 2..MAX_SIDE par côté pour un maze brut
+ * - MIN_PACMAN_SIDE..MAX_SIDE pour un maze Pac-Man (Ghost House 4×8 + couloir autour)
+ */
+public record MazeSpec(String algo, Integer rows, Integer cols, Long seed, Boolean pacman) {
+
+    public static final int MIN_SIDE = 2;
+    public static final int MIN_PACMAN_SIDE = 11;
+    public static final int MAX_SIDE = 200;
+
+    public MazeSpec {
+        if (algo == null) algo = "rb";
+        if (pacman == null) pacman = true;
+        if (rows == null) rows = pacman ? 31 : 21;
+        if (cols == null) cols = pacman ? 28 : 18;
+    }
+
+    /**
+     * Raison pour laquelle la spec est invalide (null si elle est valide)
+     */
+    public String problem() {
+        int min = pacman ? MIN_PACMAN_SIDE : MIN_SIDE;
+        if (rows < min || cols < min || rows > MAX_SIDE || cols > MAX_SIDE) {
+            return (pacman ? "Pac-Man" : "Raw") + " mazes must be between " + min + " and " + MAX_SIDE
+                + " per side (got " + rows + "x" + cols + ")";
+        }
+        return null;
+    }
+
+    public long cellCount() {
+        return (long) rows * cols;
+    }
+}
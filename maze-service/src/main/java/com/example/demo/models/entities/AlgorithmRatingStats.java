@@ -0,0 +1,50 @@
+package com.example.demo.models.entities;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Agrégat des notes par algorithme, maintenu incrémentalement ($inc)
+ * à chaque notation d'un maze.
+ *
+ * Collection MongoDB : "rating_stats" (un document par algorithme)
+ */
+@Document(collection = "rating_stats")
+public class AlgorithmRatingStats {
+
+    /**
+     * Code de l'algorithme (rb, tp, bt, sw)
+     */
+    @Id
+    private String algorithm;
+
+    private long count;
+    private long sum;
+
+    public AlgorithmRatingStats() {
+    }
+
+    public AlgorithmRatingStats(String algorithm, long count, long sum) {
+        this.algorithm = algorithm;
+        this.count = count;
+        this.sum = sum;
+    }
+
+    // GETTERS
+    public String getAlgorithm() { return algorithm; }
+    public long getCount() { return count; }
+    public long getSum() { return sum; }
+
+    /**
+     * Note moyenne (null si aucune note)
+     */
+    public Double getAverage() {
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AlgorithmRatingStats{algorithm='%s', count=%d, average=%s}",
+            algorithm, count, getAverage());
+    }
+}
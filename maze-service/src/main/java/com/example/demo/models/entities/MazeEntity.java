@@ -2,6 +2,9 @@ package com.example.demo.models.entities;
 
 import com.example.demo.models.components.maze.Cell;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.IndexDirection;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.ArrayList;
@@ -18,8 +21,24 @@ import java.util.Map;
  * Chaque document contient :
  * - Métadonnées (id, dimensions, algo utilisé, rating)
  * - Structure complète du maze (toutes les cellules et murs)
+ *
+ * Index (créés par MazeIndexes) :
+ * - algorithm_ratingAvg : (algorithm, ratingAvg desc) — top-rated par algorithme, sert aussi algorithm seul
+ * - ratingAvg, createdAt : tris/filtres globaux
+ * - algorithm_longestPath, algorithm_deadEnds, algorithm_loopDensity, size_longestPath :
+ *   recherche par structure (égalité puis tri/bornes sur la métrique, voir GET /api/maze/search)
+ * - longestPath, deadEnds, loopDensity : même recherche sans algo ni taille (tri/bornes seuls),
+ *   sinon un parcours complet de la collection
  */
 @Document(collection = "mazes")
+@CompoundIndex(name = "algorithm_ratingAvg", def = "{'algorithm': 1, 'ratingAvg': -1}")
+@CompoundIndex(name = "algorithm_longestPath", def = "{'algorithm': 1, 'structure.longestPath': -1}")
+@CompoundIndex(name = "algorithm_deadEnds", def = "{'algorithm': 1, 'structure.deadEnds': -1}")
+@CompoundIndex(name = "algorithm_loopDensity", def = "{'algorithm': 1, 'structure.loopDensity': -1}")
+@CompoundIndex(name = "size_longestPath", def = "{'rows': 1, 'cols': 1, 'structure.longestPath': -1}")
+@CompoundIndex(name = "longestPath", def = "{'structure.longestPath': -1}")
+@CompoundIndex(name = "deadEnds", def = "{'structure.deadEnds': -1}")
+@CompoundIndex(name = "loopDensity", def = "{'structure.loopDensity': -1}")
 public class MazeEntity {
 
     /**
@@ -64,12 +83,29 @@ public class MazeEntity {
      * - Trier/filtrer les mazes par qualité
      * - Statistiques pour le prof/administrateur
      */
-    private Integer rating; // 0..5 ou null
+    private Integer rating; // 0..5 ou null (dernière note reçue)
+
+    /**
+     * Nombre de notes et somme des notes, et leur moyenne ratingSum / ratingCount
+     * (null si jamais noté). Les compteurs sont mis à jour atomiquement par $inc, la moyenne
+     * juste après (voir MazeRatingRepository.rate) ; ratingAvg est stocké pour être indexé (tri du top-rated).
+     */
+    private int ratingCount;
+    private long ratingSum;
+    @Indexed(direction = IndexDirection.DESCENDING)
+    private Double ratingAvg;
+
+    /**
+     * Métriques de structure (dead-ends, plus long chemin, cycles, ...), calculées à la génération
+     * null pour les mazes créés avant leur introduction
+     */
+    private MazeStructure structure;
 
     /**
      * Timestamp de création
      * Optionnel : utile pour tracer quand le maze a été créé
      */
+    @Indexed(direction = IndexDirection.DESCENDING)
     private Long createdAt;
 
 
@@ -101,6 +137,10 @@ public class MazeEntity {
     public List<List<Map<String, Boolean>>> getCells() { return cells; }
     public Integer getRating() { return rating; }
     public Long getCreatedAt() { return createdAt; }
+    public int getRatingCount() { return ratingCount; }
+    public long getRatingSum() { return ratingSum; }
+    public Double getRatingAvg() { return ratingAvg; }
+    public MazeStructure getStructure() { return structure; }
 
     // SETTERS
     public void setId(String id) { this.id = id; }
@@ -109,6 +149,10 @@ public class MazeEntity {
     public void setAlgorithm(String algorithm) { this.algorithm = algorithm; }
     public void setCells(List<List<Map<String, Boolean>>> cells) { this.cells = cells; }
     public void setRating(Integer rating) { this.rating = rating; }
+    public void setRatingCount(int ratingCount) { this.ratingCount = ratingCount; refreshRatingAvg(); }
+    public void setRatingSum(long ratingSum) { this.ratingSum = ratingSum; refreshRatingAvg(); }
+    public void setCreatedAt(Long createdAt) { this.createdAt = createdAt; }
+    public void setStructure(MazeStructure structure) { this.structure = structure; }
     // ==================== UTILITAIRES ====================
 
     /**
@@ -122,6 +166,18 @@ public class MazeEntity {
         );
     }
 
+    /**
+     * Note moyenne (null si jamais noté), calculée depuis les compteurs :
+     * juste même si ratingAvg n'est pas encore renseigné en base
+     */
+    public Double getAverageRating() {
+        return ratingCount == 0 ? null : (double) ratingSum / ratingCount;
+    }
+
+    private void refreshRatingAvg() {
+        this.ratingAvg = getAverageRating();
+    }
+
     /**
      * Obtenir la taille totale du maze
      */
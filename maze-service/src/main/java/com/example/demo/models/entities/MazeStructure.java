@@ -0,0 +1,80 @@
+package com.example.demo.models.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Métriques de structure d'un maze (sous-document "structure" de MazeEntity).
+ *
+ * Calculées par MazeAnalysis à la génération : elles permettent de chercher
+ * un maze par difficulté au lieu d'en générer et d'en jeter plusieurs.
+ */
+public class MazeStructure {
+
+    /**
+     * Cellules avec une seule sortie
+     */
+    private int deadEnds;
+
+    /**
+     * Carrefours : cellules avec 3 sorties ou plus
+     */
+    private int intersections;
+
+    /**
+     * Plus long plus court chemin (en pas) de la plus grande composante, par double BFS
+     * (exact sur un maze parfait, borne inférieure quand il y a des cycles)
+     */
+    private int longestPath;
+
+    /**
+     * Nombre moyen de choix en avançant (sorties - 1) sur les cellules non dead-end
+     */
+    private double branchingFactor;
+
+    /**
+     * Nombre de cycles indépendants : E - V + C
+     */
+    private int cycles;
+
+    /**
+     * Cycles par cellule (0 = maze parfait)
+     */
+    private double loopDensity;
+
+    /**
+     * Histogramme des longueurs de couloirs : corridorHistogram[k] = nombre de couloirs de k pas
+     * entre deux cellules qui ne sont pas de simples passages (dernière case = k et plus)
+     */
+    private List<Integer> corridorHistogram = new ArrayList<>();
+
+    public MazeStructure() {
+    }
+
+    public MazeStructure(int deadEnds, int intersections, int longestPath, double branchingFactor,
+                         int cycles, double loopDensity, List<Integer> corridorHistogram) {
+        this.deadEnds = deadEnds;
+        this.intersections = intersections;
+        this.longestPath = longestPath;
+        this.branchingFactor = branchingFactor;
+        this.cycles = cycles;
+        this.loopDensity = loopDensity;
+        this.corridorHistogram = corridorHistogram;
+    }
+
+    // GETTERS
+    public int getDeadEnds() { return deadEnds; }
+    public int getIntersections() { return intersections; }
+    public int getLongestPath() { return longestPath; }
+    public double getBranchingFactor() { return branchingFactor; }
+    public int getCycles() { return cycles; }
+    public double getLoopDensity() { return loopDensity; }
+    public List<Integer> getCorridorHistogram() { return corridorHistogram; }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "MazeStructure{deadEnds=%d, intersections=%d, longestPath=%d, branching=%.2f, cycles=%d, loopDensity=%.3f}",
+            deadEnds, intersections, longestPath, branchingFactor, cycles, loopDensity);
+    }
+}
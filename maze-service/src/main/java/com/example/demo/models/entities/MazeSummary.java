@@ -0,0 +1,19 @@
+package com.example.demo.models.entities;
+
+/**
+ * Projection "résumé" d'un maze : métadonnées sans le tableau cells.
+ *
+ * Utilisée par les finders de MazeRepository pour ne ramener de Mongo
+ * que quelques champs au lieu du document complet.
+ * Implémentée aussi par l'index de LocalMazeStore ; MazeSearch trie en mémoire sur ce type.
+ */
+public interface MazeSummary {
+    String getId();
+    int getRows();
+    int getCols();
+    String getAlgorithm();
+    Integer getRating();
+    Double getRatingAvg();
+    Long getCreatedAt();
+    MazeStructure getStructure();
+}
@@ -0,0 +1,65 @@
+package com.example.demo.repository;
+
+import com.example.demo.models.entities.MazeEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gestion des index de la collection "mazes".
+ *
+ * Les index sont déclarés par annotations sur MazeEntity (@Indexed, @CompoundIndex)
+ * et créés ici au démarrage, en tâche de fond : un cluster injoignable ne bloque
+ * pas le démarrage du service. Désactivable avec maze.mongo.ensure-indexes=false.
+ * Inactif si les mazes sont stockés localement (maze.storage=local).
+ */
+@Component
+@ConditionalOnProperty(name = "maze.storage", havingValue = "mongo", matchIfMissing = true)
+public class MazeIndexes {
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+
+    public MazeIndexes(MongoTemplate mongoTemplate,
+                       @Value("${maze.mongo.ensure-indexes:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) return;
+
+        Thread.ofVirtual().name("maze-indexes").start(() -> {
+            try {
+                System.out.println("🗂️ Mongo indexes ready: " + ensureIndexes());
+            } catch (Exception e) {
+                System.out.println("⚠️ Could not create Mongo indexes: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Créer (si absents) tous les index déclarés sur MazeEntity
+     *
+     * @return noms des index assurés
+     */
+    public List<String> ensureIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(
+            mongoTemplate.getConverter().getMappingContext());
+        IndexOperations ops = mongoTemplate.indexOps(MazeEntity.class);
+
+        List<String> names = new ArrayList<>();
+        resolver.resolveIndexFor(MazeEntity.class).forEach(index -> names.add(ops.createIndex(index)));
+        return names;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.repository;
+
+import com.example.demo.models.entities.AlgorithmRatingStats;
+import com.example.demo.models.entities.MazeEntity;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Opérations de notation atomiques (fragment personnalisé de MazeRepository).
+ */
+public interface MazeRatingRepository {
+
+    /**
+     * Noter un maze par une mise à jour atomique ($set rating, $inc ratingCount/ratingSum),
+     * sans relire ni réécrire le document ; la moyenne ratingAvg est recalculée d'après les
+     * compteurs renvoyés, puis l'agrégat de son algorithme est mis à jour.
+     *
+     * ratingAvg et l'agrégat sont des écritures suivantes, non atomiques avec la première :
+     * un arrêt entre elles laisse la moyenne ou l'agrégat en retard d'une note (le vote suivant
+     * corrige la moyenne ; {@link #rebuildRatingStats()} recalcule l'agrégat).
+     *
+     * @return l'algorithme du maze noté, vide si le maze n'existe pas
+     */
+    Optional<String> rate(String id, int rating);
+
+    /**
+     * Sauvegarder un maze (insertion, ou remplacement atomique si l'id est fourni) et reporter
+     * sur rating_stats l'écart entre ses compteurs de notes et ceux du document remplacé,
+     * pour son seul algorithme (et l'ancien si l'algorithme change)
+     */
+    MazeEntity saveWithRatingStats(MazeEntity maze);
+
+    /**
+     * Agrégats de notes par algorithme (ceux qui ont au moins une note)
+     */
+    List<AlgorithmRatingStats> ratingStats();
+
+    /**
+     * Recalculer les agrégats par algorithme depuis les compteurs des mazes
+     * (un $group sur la collection), écrits par upsert document par document.
+     *
+     * Réparation de démarrage : un vote arrivé entre le $group et l'upsert de son
+     * algorithme est écrasé (il sera compté au prochain recalcul).
+     */
+    List<AlgorithmRatingStats> rebuildRatingStats();
+
+    /**
+     * Renseigner ratingAvg sur les mazes notés qui n'en ont pas (documents antérieurs au champ)
+     *
+     * @return nombre de mazes mis à jour
+     */
+    int backfillRatingAvg();
+}
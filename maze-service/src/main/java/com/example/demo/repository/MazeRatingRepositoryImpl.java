@@ -0,0 +1,146 @@
+package com.example.demo.repository;
+
+import com.example.demo.models.entities.AlgorithmRatingStats;
+import com.example.demo.models.entities.MazeEntity;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implémentation MongoTemplate du fragment MazeRatingRepository.
+ */
+public class MazeRatingRepositoryImpl implements MazeRatingRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MazeRatingRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<String> rate(String id, int rating) {
+        // Une seule mise à jour atomique des compteurs ; la projection ne ramène que l'algorithme
+        // et les compteurs à jour, d'où la moyenne
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().include("algorithm", "ratingCount", "ratingSum");
+        Update update = new Update()
+            .set("rating", rating)
+            .inc("ratingCount", 1)
+            .inc("ratingSum", rating);
+
+        MazeEntity maze = mongoTemplate.findAndModify(query, update,
+            FindAndModifyOptions.options().returnNew(true), MazeEntity.class);
+        if (maze == null) return Optional.empty();
+
+        // Moyenne écrite seulement si aucun vote plus récent n'a déjà écrit la sienne (ratingCount inchangé)
+        mongoTemplate.updateFirst(
+            Query.query(Criteria.where("id").is(id).and("ratingCount").is(maze.getRatingCount())),
+            Update.update("ratingAvg", (double) maze.getRatingSum() / maze.getRatingCount()),
+            MazeEntity.class);
+
+        String algorithm = algorithmOf(maze);
+        incRatingStats(algorithm, 1, rating);
+        return Optional.of(algorithm);
+    }
+
+    @Override
+    public MazeEntity saveWithRatingStats(MazeEntity maze) {
+        MazeEntity previous = null;
+        if (maze.getId() == null) {
+            mongoTemplate.insert(maze);
+        } else {
+            // Remplacement atomique qui renvoie l'ancien document : ses compteurs sont retirés
+            // de l'agrégat même si un vote est arrivé entre-temps
+            Query query = Query.query(Criteria.where("id").is(maze.getId()));
+            query.fields().include("algorithm", "ratingCount", "ratingSum");
+            previous = mongoTemplate.findAndReplace(query, maze, FindAndReplaceOptions.options().upsert());
+        }
+
+        String algorithm = algorithmOf(maze);
+        long count = maze.getRatingCount();
+        long sum = maze.getRatingSum();
+        if (previous != null) {
+            String previousAlgorithm = algorithmOf(previous);
+            if (previousAlgorithm.equals(algorithm)) {
+                count -= previous.getRatingCount();
+                sum -= previous.getRatingSum();
+            } else {
+                incRatingStats(previousAlgorithm, -previous.getRatingCount(), -previous.getRatingSum());
+            }
+        }
+        incRatingStats(algorithm, count, sum);
+        return maze;
+    }
+
+    private void incRatingStats(String algorithm, long count, long sum) {
+        if (count == 0 && sum == 0) return;
+        mongoTemplate.upsert(
+            Query.query(Criteria.where("algorithm").is(algorithm)),
+            new Update().inc("count", count).inc("sum", sum),
+            AlgorithmRatingStats.class);
+    }
+
+    private static String algorithmOf(MazeEntity maze) {
+        return maze.getAlgorithm() == null ? "unknown" : maze.getAlgorithm();
+    }
+
+    @Override
+    public List<AlgorithmRatingStats> ratingStats() {
+        return mongoTemplate.find(Query.query(Criteria.where("count").gt(0)), AlgorithmRatingStats.class);
+    }
+
+    @Override
+    public List<AlgorithmRatingStats> rebuildRatingStats() {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("ratingCount").gt(0)),
+            Aggregation.group("algorithm").sum("ratingCount").as("count").sum("ratingSum").as("sum"));
+
+        List<AlgorithmRatingStats> stats = new ArrayList<>();
+        List<String> algorithms = new ArrayList<>();
+        for (Document group : mongoTemplate.aggregate(aggregation, MazeEntity.class, Document.class)) {
+            String algorithm = group.getString("_id") == null ? "unknown" : group.getString("_id");
+            AlgorithmRatingStats algorithmStats = new AlgorithmRatingStats(algorithm,
+                ((Number) group.get("count")).longValue(), ((Number) group.get("sum")).longValue());
+            stats.add(algorithmStats);
+            algorithms.add(algorithm);
+
+            // ✅ Upsert par _id, un document à la fois : rating_stats n'est jamais vidée
+            mongoTemplate.upsert(
+                Query.query(Criteria.where("algorithm").is(algorithm)),
+                new Update().set("count", algorithmStats.getCount()).set("sum", algorithmStats.getSum()),
+                AlgorithmRatingStats.class);
+        }
+
+        // Algorithmes qui n'ont plus de maze noté
+        mongoTemplate.updateMulti(
+            Query.query(Criteria.where("algorithm").nin(algorithms)),
+            new Update().set("count", 0L).set("sum", 0L),
+            AlgorithmRatingStats.class);
+        return stats;
+    }
+
+    @Override
+    public int backfillRatingAvg() {
+        Query missing = Query.query(Criteria.where("ratingCount").gt(0).and("ratingAvg").exists(false));
+        missing.fields().include("ratingCount", "ratingSum");
+
+        int updated = 0;
+        for (MazeEntity maze : mongoTemplate.find(missing, MazeEntity.class)) {
+            mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(maze.getId()).and("ratingAvg").exists(false)),
+                Update.update("ratingAvg", (double) maze.getRatingSum() / maze.getRatingCount()),
+                MazeEntity.class);
+            updated++;
+        }
+        return updated;
+    }
+}
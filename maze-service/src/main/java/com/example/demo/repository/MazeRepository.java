@@ -1,6 +1,8 @@
 package com.example.demo.repository;
 
 import com.example.demo.models.entities.MazeEntity;
+import com.example.demo.models.entities.MazeSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,14 +10,31 @@ import java.util.List;
 
 /**
  * Repository interface for MazeEntity.
- * Extends MongoRepository to provide CRUD operations and custom queries.
+ * Extends MongoRepository to provide CRUD operations and custom queries,
+ * MazeRatingRepository for atomic rating updates and MazeSearchRepository
+ * for searches by structure metrics.
  */
 @Repository
-public interface MazeRepository extends MongoRepository<MazeEntity, String> {
+public interface MazeRepository extends MongoRepository<MazeEntity, String>, MazeRatingRepository,
+        MazeSearchRepository {
     // Custom query method to find mazes with rating greater than or equal to a specified value
     List<MazeEntity> findByRatingGreaterThanEqual(Integer rating);
 
     // Trouver par algorithme
     List<MazeEntity> findByAlgorithm(String algo);
 
+    // ==================== RÉSUMÉS (sans cells) ====================
+
+    // Résumés par algorithme (index algorithm_ratingAvg)
+    List<MazeSummary> findSummariesByAlgorithm(String algo);
+
+    // Top N des meilleures moyennes d'un algorithme (index algorithm_ratingAvg)
+    List<MazeSummary> findByAlgorithmAndRatingAvgNotNullOrderByRatingAvgDesc(String algo, Limit limit);
+
+    // Top N des meilleures moyennes, tous algorithmes confondus (index ratingAvg)
+    List<MazeSummary> findByRatingAvgGreaterThanEqualOrderByRatingAvgDesc(Double ratingAvg, Limit limit);
+
+    // N derniers mazes créés (index createdAt)
+    List<MazeSummary> findByOrderByCreatedAtDesc(Limit limit);
+
 }
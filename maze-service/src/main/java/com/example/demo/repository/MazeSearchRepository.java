@@ -0,0 +1,16 @@
+package com.example.demo.repository;
+
+import com.example.demo.models.dto.MazeSearch;
+import com.example.demo.models.entities.MazeSummary;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Recherche par métriques de structure (fragment personnalisé de MazeRepository).
+ */
+public interface MazeSearchRepository {
+
+    /**
+     * Résumés (sans cells) respectant les critères, triés et paginés
+     */
+    Slice<MazeSummary> search(MazeSearch search);
+}
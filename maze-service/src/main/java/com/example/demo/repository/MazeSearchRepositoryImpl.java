@@ -0,0 +1,66 @@
+package com.example.demo.repository;
+
+import com.example.demo.models.dto.MazeSearch;
+import com.example.demo.models.entities.MazeEntity;
+import com.example.demo.models.entities.MazeSummary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implémentation MongoTemplate du fragment MazeSearchRepository.
+ *
+ * Égalités d'abord (algorithm, rows/cols), puis le tri, puis les bornes :
+ * l'ordre des index composés déclarés sur MazeEntity (algorithm_*, size_longestPath).
+ * Pagination en Slice : on lit size + 1 documents au lieu de compter le total.
+ */
+public class MazeSearchRepositoryImpl implements MazeSearchRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MazeSearchRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Slice<MazeSummary> search(MazeSearch search) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (search.algo() != null) criteria.add(Criteria.where("algorithm").is(search.algo()));
+        if (search.rows() != null) criteria.add(Criteria.where("rows").is(search.rows()));
+        if (search.cols() != null) criteria.add(Criteria.where("cols").is(search.cols()));
+        range(criteria, "structure.deadEnds", search.minDeadEnds(), search.maxDeadEnds());
+        range(criteria, "structure.longestPath", search.minLongestPath(), search.maxLongestPath());
+        range(criteria, "structure.loopDensity", search.minLoopDensity(), search.maxLoopDensity());
+
+        PageRequest pageable = PageRequest.of(search.page(), search.size(),
+            Sort.by(search.ascending() ? Sort.Direction.ASC : Sort.Direction.DESC, search.sortPath()));
+        Query query = new Query();
+        if (!criteria.isEmpty()) query.addCriteria(new Criteria().andOperator(criteria));
+        query.with(pageable.getSort())
+            .skip(pageable.getOffset())
+            .limit(search.size() + 1);
+
+        List<MazeSummary> found = new ArrayList<>(mongoTemplate.query(MazeEntity.class)
+            .as(MazeSummary.class)
+            .matching(query)
+            .all());
+        boolean hasNext = found.size() > search.size();
+        if (hasNext) found.remove(found.size() - 1);
+        return new SliceImpl<>(found, pageable, hasNext);
+    }
+
+    private static void range(List<Criteria> criteria, String path, Number min, Number max) {
+        if (min == null && max == null) return;
+        Criteria range = Criteria.where(path);
+        if (min != null) range = range.gte(min);
+        if (max != null) range = range.lte(max);
+        criteria.add(range);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recalcul de la collection "rating_stats" (et des ratingAvg manquants) au démarrage.
+ *
+ * Chaque vote fait deux écritures (le maze, puis l'agrégat de son algorithme) qui ne sont
+ * pas atomiques ensemble : un arrêt entre les deux laisse l'agrégat en retard. Il est donc
+ * reconstruit depuis les compteurs des mazes, en tâche de fond comme MazeIndexes.
+ * Désactivable avec maze.mongo.rebuild-rating-stats=false.
+ */
+@Component
+@ConditionalOnProperty(name = "maze.storage", havingValue = "mongo", matchIfMissing = true)
+public class RatingStatsRebuild {
+
+    private final MazeRepository mazeRepository;
+    private final boolean enabled;
+
+    public RatingStatsRebuild(MazeRepository mazeRepository,
+                              @Value("${maze.mongo.rebuild-rating-stats:true}") boolean enabled) {
+        this.mazeRepository = mazeRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) return;
+
+        Thread.ofVirtual().name("rating-stats").start(() -> {
+            try {
+                int backfilled = mazeRepository.backfillRatingAvg();
+                System.out.println("⭐ Rating stats rebuilt: " + mazeRepository.rebuildRatingStats().size()
+                    + " algorithms, " + backfilled + " averages backfilled");
+            } catch (Exception e) {
+                System.out.println("⚠️ Could not rebuild rating stats: " + e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.serialization;
+
+import com.example.demo.models.entities.MazeEntity;
+import com.example.demo.models.entities.MazeStructure;
+import com.example.demo.storage.WallCodec;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Écriture JSON directe d'un maze avec JsonGenerator (pas de Map intermédiaire ni de réflexion).
+ *
+ * Format identique à l'ancien toJsonResponse :
+ *   {"id", "rows", "cols", "algorithm", "rating", "ratingCount", "averageRating",
+ *    "createdAt", "totalCells", "structure", "cells": [[{"north", "south", "east", "west"}, ...], ...]}
+ */
+@Component
+public class MazeJsonWriter {
+
+    private final JsonFactory factory;
+
+    public MazeJsonWriter(ObjectMapper objectMapper) {
+        this.factory = objectMapper.getFactory();
+    }
+
+    /**
+     * Écrire un maze complet (objet JSON) dans un générateur déjà ouvert
+     */
+    public void write(JsonGenerator json, MazeEntity maze) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("id", maze.getId());
+        json.writeNumberField("rows", maze.getRows());
+        json.writeNumberField("cols", maze.getCols());
+        json.writeStringField("algorithm", maze.getAlgorithm());
+        writeNullableNumber(json, "rating", maze.getRating());
+        json.writeNumberField("ratingCount", maze.getRatingCount());
+        json.writeFieldName("averageRating");
+        if (maze.getAverageRating() == null) json.writeNull(); else json.writeNumber(maze.getAverageRating());
+        writeNullableNumber(json, "createdAt", maze.getCreatedAt());
+        json.writeNumberField("totalCells", maze.getRows() * maze.getCols());
+        writeStructure(json, maze.getStructure());
+
+        json.writeArrayFieldStart("cells");
+        for (List<Map<String, Boolean>> row : maze.getCells()) {
+            json.writeStartArray();
+            for (Map<String, Boolean> cell : row) {
+                int walls = WallCodec.walls(cell);
+                json.writeStartObject();
+                json.writeBooleanField("north", (walls & WallCodec.NORTH) != 0);
+                json.writeBooleanField("south", (walls & WallCodec.SOUTH) != 0);
+                json.writeBooleanField("east", (walls & WallCodec.EAST) != 0);
+                json.writeBooleanField("west", (walls & WallCodec.WEST) != 0);
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    /**
+     * Écrire un maze directement dans un flux (ex : corps de réponse HTTP), sans buffer intermédiaire
+     */
+    public void write(OutputStream out, MazeEntity maze) throws IOException {
+        try (JsonGenerator json = factory.createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // le flux appartient à l'appelant
+            write(json, maze);
+        }
+    }
+
+    /**
+     * Sérialiser un maze en octets JSON (valeur du cache L1)
+     */
+    public byte[] toBytes(MazeEntity maze) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(estimateSize(maze));
+        try (JsonGenerator json = factory.createGenerator(out)) {
+            write(json, maze);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Sérialiser une liste de mazes : {"algorithm"?, "count", "mazes": [...]}
+     *
+     * @param algorithm filtre appliqué (null = champ omis)
+     */
+    public byte[] toBytes(String algorithm, List<MazeEntity> mazes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator json = factory.createGenerator(out)) {
+            json.writeStartObject();
+            if (algorithm != null) json.writeStringField("algorithm", algorithm);
+            json.writeNumberField("count", mazes.size());
+            json.writeArrayFieldStart("mazes");
+            for (MazeEntity maze : mazes) {
+                write(json, maze);
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Écrire le champ "structure" (null si le maze n'a pas été analysé)
+     */
+    public static void writeStructure(JsonGenerator json, MazeStructure structure) throws IOException {
+        json.writeFieldName("structure");
+        if (structure == null) {
+            json.writeNull();
+            return;
+        }
+        json.writeStartObject();
+        json.writeNumberField("deadEnds", structure.getDeadEnds());
+        json.writeNumberField("intersections", structure.getIntersections());
+        json.writeNumberField("longestPath", structure.getLongestPath());
+        json.writeNumberField("branchingFactor", structure.getBranchingFactor());
+        json.writeNumberField("cycles", structure.getCycles());
+        json.writeNumberField("loopDensity", structure.getLoopDensity());
+        json.writeArrayFieldStart("corridorHistogram");
+        for (Integer count : structure.getCorridorHistogram()) {
+            json.writeNumber(count);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    // ~60 octets par cellule + métadonnées : évite les recopies du buffer
+    private static int estimateSize(MazeEntity maze) {
+        return 256 + 60 * maze.getRows() * maze.getCols();
+    }
+
+    private static void writeNullableNumber(JsonGenerator json, String field, Number value) throws IOException {
+        json.writeFieldName(field);
+        if (value == null) json.writeNull(); else json.writeNumber(value.longValue());
+    }
+}
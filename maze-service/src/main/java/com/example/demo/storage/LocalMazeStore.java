@@ -0,0 +1,379 @@
+package com.example.demo.storage;
+
+import com.example.demo.models.components.maze.MazeAnalysis;
+import com.example.demo.models.dto.MazeSearch;
+import com.example.demo.models.entities.AlgorithmRatingStats;
+import com.example.demo.models.entities.MazeEntity;
+import com.example.demo.models.entities.MazeStructure;
+import com.example.demo.models.entities.MazeSummary;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Stockage local embarqué : un fichier append-only mappé en mémoire + un index id -> offset en mémoire.
+ *
+ * Format du fichier (suite d'enregistrements, jamais réécrits) :
+ *   int length | byte type | corps
+ *   - PUT  : id, algorithm, rows, cols, createdAt, rating (-1 = null), ratingCount, ratingSum, murs packés (WallCodec)
+ *   - RATE : id, rating
+ *
+ * La longueur est écrite en dernier : un enregistrement interrompu (crash) garde une longueur 0
+ * et marque la fin du journal au redémarrage. L'index est reconstruit en rejouant le journal.
+ * Les métadonnées (résumés, notes, structure) vivent dans l'index : seuls findById/findAll lisent le fichier.
+ * La structure (MazeAnalysis) n'est pas journalisée : elle est recalculée depuis les murs au rejeu.
+ *
+ * Limite : un seul mapping, donc 2 Gio de journal au maximum.
+ *
+ * Configuration : maze.storage=local, maze.storage.local.path, maze.storage.local.map-size
+ */
+@Component
+@ConditionalOnProperty(name = "maze.storage", havingValue = "local")
+public class LocalMazeStore implements MazeStore, Closeable {
+
+    private static final byte PUT = 1;
+    private static final byte RATE = 2;
+    private static final int HEADER = Integer.BYTES + 1;
+
+    /**
+     * Entrée de l'index : métadonnées du maze + position de son dernier PUT
+     */
+    record Entry(String id, String algorithm, int rows, int cols, long createdAt,
+                 Integer rating, int ratingCount, long ratingSum, MazeStructure structure,
+                 int offset) implements MazeSummary {
+        @Override public String getId() { return id; }
+        @Override public int getRows() { return rows; }
+        @Override public int getCols() { return cols; }
+        @Override public String getAlgorithm() { return algorithm; }
+        @Override public Integer getRating() { return rating; }
+        @Override public Double getRatingAvg() { return ratingCount == 0 ? null : (double) ratingSum / ratingCount; }
+        @Override public Long getCreatedAt() { return createdAt; }
+        @Override public MazeStructure getStructure() { return structure; }
+
+        Entry rated(int newRating) {
+            return new Entry(id, algorithm, rows, cols, createdAt,
+                newRating, ratingCount + 1, ratingSum + newRating, structure, offset);
+        }
+    }
+
+    private final FileChannel channel;
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+    private final Map<String, long[]> ratingStats = new ConcurrentHashMap<>(); // algo -> {count, sum}
+
+    private volatile MappedByteBuffer buffer;
+    private int end; // position du prochain enregistrement (protégé par this)
+
+    public LocalMazeStore(@Value("${maze.storage.local.path:data/mazes.log}") Path path,
+                          @Value("${maze.storage.local.map-size:67108864}") int mapSize) throws IOException {
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        this.channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = Math.max(channel.size(), Math.max(mapSize, 4096));
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(size, Integer.MAX_VALUE));
+        replay();
+
+        System.out.println("💾 Local maze store: " + path + " (" + index.size() + " mazes, " + end + " bytes)");
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    // ==================== ÉCRITURE ====================
+
+    @Override
+    public MazeEntity save(MazeEntity maze) {
+        if (maze.getId() == null) maze.setId(new ObjectId().toHexString());
+        byte[] walls = WallCodec.pack(maze.getCells(), maze.getRows(), maze.getCols());
+        if (maze.getStructure() == null) {
+            maze.setStructure(MazeAnalysis.analyze(maze.getRows(), maze.getCols(),
+                WallCodec.openBits(walls, maze.getRows(), maze.getCols())));
+        }
+
+        byte[] body = encode(out -> {
+            out.writeUTF(maze.getId());
+            out.writeUTF(maze.getAlgorithm() == null ? "" : maze.getAlgorithm());
+            out.writeInt(maze.getRows());
+            out.writeInt(maze.getCols());
+            out.writeLong(maze.getCreatedAt() == null ? 0L : maze.getCreatedAt());
+            out.writeInt(maze.getRating() == null ? -1 : maze.getRating());
+            out.writeInt(maze.getRatingCount());
+            out.writeLong(maze.getRatingSum());
+            out.write(walls);
+        });
+
+        synchronized (this) {
+            int offset = append(PUT, body);
+            put(new Entry(maze.getId(), maze.getAlgorithm(), maze.getRows(), maze.getCols(),
+                maze.getCreatedAt() == null ? 0L : maze.getCreatedAt(),
+                maze.getRating(), maze.getRatingCount(), maze.getRatingSum(), maze.getStructure(), offset));
+        }
+        return maze;
+    }
+
+    @Override
+    public List<MazeEntity> saveAll(List<MazeEntity> mazes) {
+        mazes.forEach(this::save);
+        return mazes;
+    }
+
+    @Override
+    public synchronized Optional<String> rate(String id, int rating) {
+        Entry entry = index.get(id);
+        if (entry == null) return Optional.empty();
+
+        append(RATE, encode(out -> {
+            out.writeUTF(id);
+            out.writeInt(rating);
+        }));
+        applyRate(entry, rating);
+        return Optional.of(algorithmKey(entry.algorithm()));
+    }
+
+    // ==================== LECTURE ====================
+
+    @Override
+    public Optional<MazeEntity> findById(String id) {
+        Entry entry = index.get(id);
+        return entry == null ? Optional.empty() : Optional.of(load(entry));
+    }
+
+    @Override
+    public List<MazeEntity> findAll() {
+        return select(e -> true).stream().map(this::load).toList();
+    }
+
+    @Override
+    public List<MazeEntity> findByAlgorithm(String algo) {
+        return select(e -> algo.equals(e.algorithm())).stream().map(this::load).toList();
+    }
+
+    @Override
+    public List<MazeSummary> findSummariesByAlgorithm(String algo) {
+        return List.copyOf(select(e -> algo.equals(e.algorithm())));
+    }
+
+    @Override
+    public List<MazeSummary> findTopRated(String algo, int limit) {
+        return index.values().stream()
+            .filter(e -> e.ratingCount() > 0 && (algo == null || algo.equals(e.algorithm())))
+            .sorted(Comparator.comparing(Entry::getRatingAvg).reversed())
+            .limit(limit)
+            .map(e -> (MazeSummary) e)
+            .toList();
+    }
+
+    @Override
+    public List<MazeSummary> findRecent(int limit) {
+        return index.values().stream()
+            .sorted(Comparator.comparingLong(Entry::createdAt).reversed())
+            .limit(limit)
+            .map(e -> (MazeSummary) e)
+            .toList();
+    }
+
+    @Override
+    public Slice<MazeSummary> search(MazeSearch search) {
+        // Index en mémoire : filtre + tri sur les résumés, sans lire le fichier
+        List<MazeSummary> found = index.values().stream()
+            .map(e -> (MazeSummary) e)
+            .filter(search::matches)
+            .sorted(search.comparator())
+            .skip((long) search.page() * search.size())
+            .limit(search.size() + 1)
+            .toList();
+        boolean hasNext = found.size() > search.size();
+        return new SliceImpl<>(hasNext ? found.subList(0, search.size()) : found,
+            PageRequest.of(search.page(), search.size()), hasNext);
+    }
+
+    @Override
+    public List<AlgorithmRatingStats> ratingStats() {
+        List<AlgorithmRatingStats> stats = new ArrayList<>();
+        ratingStats.forEach((algo, counts) -> {
+            synchronized (counts) {
+                if (counts[0] > 0) stats.add(new AlgorithmRatingStats(algo, counts[0], counts[1]));
+            }
+        });
+        return stats;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    // ==================== JOURNAL ====================
+
+    // Écrire un enregistrement en fin de journal ; retourne son offset
+    private int append(byte type, byte[] body) {
+        int length = 1 + body.length;
+        ensureCapacity(end + Integer.BYTES + length);
+
+        MappedByteBuffer out = buffer;
+        out.put(end + Integer.BYTES, type);
+        out.put(end + HEADER, body);
+        out.putInt(end, length); // en dernier : l'enregistrement devient visible au rejeu
+
+        int offset = end;
+        end += Integer.BYTES + length;
+        return offset;
+    }
+
+    // Agrandir le mapping (x2) quand le journal arrive au bout
+    private void ensureCapacity(long required) {
+        if (required <= buffer.capacity()) return;
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Local maze store is full (2 GiB)");
+        }
+        long capacity = Math.min(Math.max(required, 2L * buffer.capacity()), Integer.MAX_VALUE);
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Reconstruire l'index en relisant tous les enregistrements
+    private void replay() throws IOException {
+        MappedByteBuffer in = buffer;
+        int position = 0;
+        while (position + HEADER <= in.capacity()) {
+            int length = in.getInt(position);
+            if (length <= 0 || position + Integer.BYTES + length > in.capacity()) break;
+
+            byte type = in.get(position + Integer.BYTES);
+            DataInputStream body = body(in, position, length);
+            String id = body.readUTF();
+            if (type == PUT) {
+                MazeEntity maze = decode(id, body, false);
+                put(new Entry(id, maze.getAlgorithm(), maze.getRows(), maze.getCols(),
+                    maze.getCreatedAt(), maze.getRating(), maze.getRatingCount(), maze.getRatingSum(),
+                    maze.getStructure(), position));
+            } else if (type == RATE) {
+                Entry entry = index.get(id);
+                if (entry != null) applyRate(entry, body.readInt());
+            }
+            position += Integer.BYTES + length;
+        }
+        end = position;
+    }
+
+    // Lire le maze complet de son dernier PUT, avec les notes à jour de l'index
+    private MazeEntity load(Entry entry) {
+        MappedByteBuffer in = buffer;
+        int length = in.getInt(entry.offset());
+        try {
+            DataInputStream body = body(in, entry.offset(), length);
+            MazeEntity maze = decode(body.readUTF(), body, true);
+            maze.setStructure(entry.structure());
+            maze.setRating(entry.rating());
+            maze.setRatingCount(entry.ratingCount());
+            maze.setRatingSum(entry.ratingSum());
+            return maze;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MazeEntity decode(String id, DataInputStream body, boolean withCells) throws IOException {
+        MazeEntity maze = new MazeEntity();
+        maze.setId(id);
+        String algorithm = body.readUTF();
+        maze.setAlgorithm(algorithm.isEmpty() ? null : algorithm);
+        maze.setRows(body.readInt());
+        maze.setCols(body.readInt());
+        maze.setCreatedAt(body.readLong());
+        int rating = body.readInt();
+        maze.setRating(rating < 0 ? null : rating);
+        maze.setRatingCount(body.readInt());
+        maze.setRatingSum(body.readLong());
+        byte[] walls = body.readNBytes(WallCodec.packedSize(maze.getRows(), maze.getCols()));
+        if (withCells) {
+            maze.setCells(WallCodec.unpack(walls, maze.getRows(), maze.getCols()));
+        } else {
+            // Rejeu : la structure n'est pas dans le journal, on la recalcule depuis les murs
+            maze.setStructure(MazeAnalysis.analyze(maze.getRows(), maze.getCols(),
+                WallCodec.openBits(walls, maze.getRows(), maze.getCols())));
+        }
+        return maze;
+    }
+
+    private void applyRate(Entry entry, int rating) {
+        index.put(entry.id(), entry.rated(rating));
+        addRatings(entry.algorithm(), 1, rating);
+    }
+
+    // PUT (création, remplacement, import) : les notes du maze remplacé sortent de l'agrégat, les siennes y entrent
+    private void put(Entry entry) {
+        Entry previous = index.put(entry.id(), entry);
+        if (previous != null) addRatings(previous.algorithm(), -previous.ratingCount(), -previous.ratingSum());
+        addRatings(entry.algorithm(), entry.ratingCount(), entry.ratingSum());
+    }
+
+    private void addRatings(String algorithm, long count, long sum) {
+        if (count == 0 && sum == 0) return;
+        long[] counts = ratingStats.computeIfAbsent(algorithmKey(algorithm), k -> new long[2]);
+        synchronized (counts) {
+            counts[0] += count;
+            counts[1] += sum;
+        }
+    }
+
+    private List<Entry> select(Predicate<Entry> filter) {
+        return index.values().stream()
+            .filter(filter)
+            .sorted(Comparator.comparingInt(Entry::offset))
+            .toList();
+    }
+
+    private static String algorithmKey(String algorithm) {
+        return algorithm == null ? "unknown" : algorithm;
+    }
+
+    private static DataInputStream body(MappedByteBuffer in, int position, int length) {
+        byte[] bytes = new byte[length - 1];
+        in.get(position + HEADER, bytes);
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    private interface BodyWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(BodyWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
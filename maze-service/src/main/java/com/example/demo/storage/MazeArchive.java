@@ -0,0 +1,282 @@
+package com.example.demo.storage;
+
+import com.example.demo.models.components.maze.MazeAnalysis;
+import com.example.demo.models.entities.MazeEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Archive binaire de mazes (export/import en masse, pack de niveaux hors ligne).
+ *
+ * Format (big-endian) :
+ *   HEADER (12 octets) : int magic "MAZA" | int version | int count
+ *   INDEX  (count x 12) : long offset | int length   (un enregistrement par maze)
+ *   RECORDS :
+ *     short idLength | id (UTF-8) | short algoLength | algorithm (UTF-8)
+ *     int rows | int cols | long createdAt
+ *     byte rating (-1 = null) | int ratingCount | long ratingSum
+ *     murs packés (WallCodec, 4 bits par cellule)
+ *
+ * La structure (MazeAnalysis) n'est pas stockée : elle est recalculée depuis les murs à la lecture.
+ *
+ * L'index étant de taille fixe, un lecteur mappe le fichier (FileChannel.map)
+ * et accède au maze i directement, sans parser les autres.
+ *
+ * Le fichier vient de l'extérieur (POST /import) : open vérifie chaque entrée de l'index
+ * (enregistrement entièrement dans le fichier, sans doublon ni chevauchement), get vérifie
+ * les tailles, compteurs et la cohérence des murs entre voisines, readAll borne le total
+ * de cellules décodées ; toute incohérence lève IllegalArgumentException.
+ */
+public final class MazeArchive implements Closeable {
+
+    public static final int MAGIC = 0x4D415A41; // "MAZA"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 12;
+    public static final int INDEX_ENTRY_SIZE = 12;
+    public static final int MAX_SIDE = 10_000;
+    public static final int MAX_CELLS = 1_000_000;  // cells décodées en List<List<Map>> : borne la mémoire par maze
+    public static final int MAX_TOTAL_CELLS = 4_000_000; // même borne pour toute l'archive (readAll)
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final int count;
+
+    private MazeArchive(FileChannel channel, ByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a maze archive");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported maze archive version: " + buffer.getInt(4));
+        }
+        this.count = buffer.getInt(8);
+        long recordsStart = HEADER_SIZE + (long) count * INDEX_ENTRY_SIZE;
+        if (count < 0 || recordsStart > buffer.limit()) {
+            throw new IllegalArgumentException("Corrupted maze archive index");
+        }
+        // offset (< 2^31) et length (< 2^31) packés dans un long : tri par offset sans objets
+        long[] spans = new long[count];
+        for (int i = 0; i < count; i++) {
+            int entry = HEADER_SIZE + i * INDEX_ENTRY_SIZE;
+            long offset = buffer.getLong(entry);
+            int length = buffer.getInt(entry + Long.BYTES);
+            if (offset < recordsStart || length < 0 || offset + length > buffer.limit()) {
+                throw new IllegalArgumentException("Corrupted index entry " + i
+                    + " (offset " + offset + ", length " + length + ")");
+            }
+            spans[i] = offset << 31 | length;
+        }
+
+        // ✅ Deux entrées ne peuvent pas pointer vers les mêmes octets (sinon un petit fichier
+        // ferait décoder N fois le même gros maze)
+        Arrays.sort(spans);
+        long previousOffset = -1, previousEnd = recordsStart;
+        for (int i = 0; i < count; i++) {
+            long offset = spans[i] >>> 31;
+            if (offset < previousEnd || offset == previousOffset) {
+                throw new IllegalArgumentException("Overlapping index entries at offset " + offset);
+            }
+            previousOffset = offset;
+            previousEnd = offset + (spans[i] & Integer.MAX_VALUE);
+        }
+    }
+
+    // ==================== ÉCRITURE ====================
+
+    /**
+     * Écrire une archive complète (header, index, enregistrements) dans un flux
+     */
+    public static void write(List<MazeEntity> mazes, OutputStream target) throws IOException {
+        // Encoder d'abord les enregistrements (compacts) pour connaître les offsets
+        List<byte[]> records = new ArrayList<>(mazes.size());
+        for (MazeEntity maze : mazes) {
+            records.add(encode(maze));
+        }
+
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(records.size());
+
+        long offset = HEADER_SIZE + (long) records.size() * INDEX_ENTRY_SIZE;
+        for (byte[] record : records) {
+            out.writeLong(offset);
+            out.writeInt(record.length);
+            offset += record.length;
+        }
+        for (byte[] record : records) {
+            out.write(record);
+        }
+        out.flush();
+    }
+
+    private static byte[] encode(MazeEntity maze) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+            64 + WallCodec.packedSize(maze.getRows(), maze.getCols()));
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, maze.getId());
+            writeString(out, maze.getAlgorithm());
+            out.writeInt(maze.getRows());
+            out.writeInt(maze.getCols());
+            out.writeLong(maze.getCreatedAt() == null ? 0L : maze.getCreatedAt());
+            out.writeByte(maze.getRating() == null ? -1 : maze.getRating());
+            out.writeInt(maze.getRatingCount());
+            out.writeLong(maze.getRatingSum());
+            out.write(WallCodec.pack(maze.getCells(), maze.getRows(), maze.getCols()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(utf8.length);
+        out.write(utf8);
+    }
+
+    // ==================== LECTURE ====================
+
+    /**
+     * Ouvrir une archive en la mappant en mémoire (lecture seule)
+     */
+    public static MazeArchive open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Maze archive too large (max 2 GiB)");
+            }
+            return new MazeArchive(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (RuntimeException | IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Nombre de mazes dans l'archive
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Lire le maze i (accès direct via l'index)
+     */
+    public MazeEntity get(int i) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("Maze " + i + " out of " + count);
+        }
+        try {
+            return decode(record(i));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Maze " + i + " is truncated");
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Maze " + i + ": " + e.getMessage());
+        }
+    }
+
+    // Lecture absolue sur une vue dédiée : sûr entre plusieurs threads
+    private ByteBuffer record(int i) {
+        int entry = HEADER_SIZE + i * INDEX_ENTRY_SIZE;
+        int position = (int) buffer.getLong(entry); // vérifié par le constructeur
+        return buffer.slice(position, buffer.getInt(entry + Long.BYTES));
+    }
+
+    // rows * cols annoncé par l'enregistrement i, sans décoder les murs
+    private long cellsOf(int i) {
+        ByteBuffer in = record(i);
+        try {
+            in.position(in.position() + Short.toUnsignedInt(in.getShort()));   // id
+            in.position(in.position() + Short.toUnsignedInt(in.getShort()));   // algorithm
+            return (long) in.getInt() * in.getInt();
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Maze " + i + " is truncated");
+        }
+    }
+
+    private static MazeEntity decode(ByteBuffer in) {
+        MazeEntity maze = new MazeEntity();
+        maze.setId(readString(in));
+        maze.setAlgorithm(readString(in));
+        maze.setRows(in.getInt());
+        maze.setCols(in.getInt());
+        maze.setCreatedAt(in.getLong());
+        byte rating = in.get();
+        maze.setRating(rating < 0 ? null : (int) rating);
+        maze.setRatingCount(in.getInt());
+        maze.setRatingSum(in.getLong());
+
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        if (rows < 1 || cols < 1 || rows > MAX_SIDE || cols > MAX_SIDE || (long) rows * cols > MAX_CELLS) {
+            throw new IllegalArgumentException("invalid size " + rows + "x" + cols
+                + " (max " + MAX_SIDE + " per side, " + MAX_CELLS + " cells)");
+        }
+        if (rating > 5 || maze.getRatingCount() < 0 || maze.getRatingSum() < 0
+            || maze.getRatingSum() > 5L * maze.getRatingCount()) {
+            throw new IllegalArgumentException("invalid rating counters");
+        }
+        if (WallCodec.packedSize(rows, cols) > in.remaining()) {
+            throw new IllegalArgumentException("walls exceed the record length");
+        }
+
+        byte[] walls = new byte[WallCodec.packedSize(rows, cols)];
+        in.get(walls);
+        int[] open = WallCodec.openBits(walls, rows, cols);
+        if (!MazeAnalysis.isConsistent(rows, cols, open)) {
+            throw new IllegalArgumentException("walls disagree between neighbouring cells");
+        }
+        maze.setCells(WallCodec.unpack(walls, rows, cols));
+        maze.setStructure(MazeAnalysis.analyze(rows, cols, open));
+        return maze;
+    }
+
+    /**
+     * Lire tous les mazes (import)
+     *
+     * ✅ Le total de cellules est vérifié avant de décoder quoi que ce soit
+     */
+    public List<MazeEntity> readAll() {
+        long cells = 0;
+        for (int i = 0; i < count; i++) {
+            cells += Math.max(0, cellsOf(i));
+            if (cells > MAX_TOTAL_CELLS) {
+                throw new IllegalArgumentException("Maze archive exceeds " + MAX_TOTAL_CELLS + " cells");
+            }
+        }
+
+        List<MazeEntity> mazes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            mazes.add(get(i));
+        }
+        return mazes;
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] utf8 = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(utf8);
+        return utf8.length == 0 ? null : new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
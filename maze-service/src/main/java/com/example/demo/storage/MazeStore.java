@@ -0,0 +1,64 @@
+package com.example.demo.storage;
+
+import com.example.demo.models.dto.MazeSearch;
+import com.example.demo.models.entities.AlgorithmRatingStats;
+import com.example.demo.models.entities.MazeEntity;
+import com.example.demo.models.entities.MazeSummary;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SPI de persistance des mazes utilisée par le controller.
+ *
+ * Implémentations (choisies par maze.storage) :
+ * - mongo (défaut) : MongoMazeStore, au-dessus de MazeRepository
+ * - local          : LocalMazeStore, fichier append-only mappé en mémoire (hors ligne)
+ */
+public interface MazeStore {
+
+    /**
+     * Nom court du backend (tag des métriques : save.mongo, load.local, ...)
+     */
+    String name();
+
+    MazeEntity save(MazeEntity maze);
+
+    List<MazeEntity> saveAll(List<MazeEntity> mazes);
+
+    Optional<MazeEntity> findById(String id);
+
+    List<MazeEntity> findAll();
+
+    List<MazeEntity> findByAlgorithm(String algo);
+
+    /**
+     * Résumés (sans cells) d'un algorithme
+     */
+    List<MazeSummary> findSummariesByAlgorithm(String algo);
+
+    /**
+     * Top N des mazes notés, par note décroissante (algo null = tous algorithmes)
+     */
+    List<MazeSummary> findTopRated(String algo, int limit);
+
+    /**
+     * N derniers mazes créés
+     */
+    List<MazeSummary> findRecent(int limit);
+
+    /**
+     * Recherche par métriques de structure : résumés triés et paginés (Slice, sans total)
+     */
+    Slice<MazeSummary> search(MazeSearch search);
+
+    /**
+     * Noter un maze (note courante, compteur et somme, agrégat par algorithme)
+     *
+     * @return l'algorithme du maze noté, vide si le maze n'existe pas
+     */
+    Optional<String> rate(String id, int rating);
+
+    List<AlgorithmRatingStats> ratingStats();
+}
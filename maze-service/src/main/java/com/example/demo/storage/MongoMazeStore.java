@@ -0,0 +1,105 @@
+package com.example.demo.storage;
+
+import com.example.demo.models.dto.MazeSearch;
+import com.example.demo.models.entities.AlgorithmRatingStats;
+import com.example.demo.models.entities.MazeEntity;
+import com.example.demo.models.entities.MazeSummary;
+import com.example.demo.repository.MazeRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stockage MongoDB (backend par défaut) : délègue à MazeRepository.
+ */
+@Component
+@ConditionalOnProperty(name = "maze.storage", havingValue = "mongo", matchIfMissing = true)
+public class MongoMazeStore implements MazeStore {
+
+    private final MazeRepository mazeRepository;
+
+    public MongoMazeStore(MazeRepository mazeRepository) {
+        this.mazeRepository = mazeRepository;
+    }
+
+    @Override
+    public String name() {
+        return "mongo";
+    }
+
+    @Override
+    public MazeEntity save(MazeEntity maze) {
+        return mazeRepository.saveWithRatingStats(maze);
+    }
+
+    /**
+     * Les nouveaux mazes sans note partent en un seul insert groupé ; un maze avec un id (import)
+     * peut en remplacer un autre et apporte ses propres ratingCount/ratingSum : il est sauvegardé
+     * seul, et seul l'agrégat de son algorithme est ajusté.
+     */
+    @Override
+    public List<MazeEntity> saveAll(List<MazeEntity> mazes) {
+        List<MazeEntity> plain = new ArrayList<>();
+        List<MazeEntity> rated = new ArrayList<>();
+        for (MazeEntity maze : mazes) {
+            (maze.getId() == null && maze.getRatingCount() == 0 ? plain : rated).add(maze);
+        }
+        if (rated.isEmpty()) return mazeRepository.saveAll(plain);
+
+        if (!plain.isEmpty()) mazeRepository.saveAll(plain);
+        rated.forEach(mazeRepository::saveWithRatingStats);
+        return mazes;
+    }
+
+    @Override
+    public Optional<MazeEntity> findById(String id) {
+        return mazeRepository.findById(id);
+    }
+
+    @Override
+    public List<MazeEntity> findAll() {
+        return mazeRepository.findAll();
+    }
+
+    @Override
+    public List<MazeEntity> findByAlgorithm(String algo) {
+        return mazeRepository.findByAlgorithm(algo);
+    }
+
+    @Override
+    public List<MazeSummary> findSummariesByAlgorithm(String algo) {
+        return mazeRepository.findSummariesByAlgorithm(algo);
+    }
+
+    @Override
+    public List<MazeSummary> findTopRated(String algo, int limit) {
+        return algo == null
+            ? mazeRepository.findByRatingAvgGreaterThanEqualOrderByRatingAvgDesc(0.0, Limit.of(limit))
+            : mazeRepository.findByAlgorithmAndRatingAvgNotNullOrderByRatingAvgDesc(algo, Limit.of(limit));
+    }
+
+    @Override
+    public List<MazeSummary> findRecent(int limit) {
+        return mazeRepository.findByOrderByCreatedAtDesc(Limit.of(limit));
+    }
+
+    @Override
+    public Slice<MazeSummary> search(MazeSearch search) {
+        return mazeRepository.search(search);
+    }
+
+    @Override
+    public Optional<String> rate(String id, int rating) {
+        return mazeRepository.rate(id, rating);
+    }
+
+    @Override
+    public List<AlgorithmRatingStats> ratingStats() {
+        return mazeRepository.ratingStats();
+    }
+}
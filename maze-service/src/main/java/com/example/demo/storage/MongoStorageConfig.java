@@ -0,0 +1,15 @@
+package com.example.demo.storage;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+
+/**
+ * Repositories MongoDB, activés seulement avec le backend mongo :
+ * en maze.storage=local, aucun bean ne dépend de MongoDB.
+ */
+@Configuration
+@ConditionalOnProperty(name = "maze.storage", havingValue = "mongo", matchIfMissing = true)
+@EnableMongoRepositories(basePackages = "com.example.demo.repository")
+public class MongoStorageConfig {
+}
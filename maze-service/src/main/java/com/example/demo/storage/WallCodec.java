@@ -0,0 +1,165 @@
+package com.example.demo.storage;
+
+import com.example.demo.models.components.maze.Cell;
+import com.example.demo.models.components.maze.Grid;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodage compact des murs d'un maze : 4 bits par cellule, 2 cellules par octet.
+ *
+ * Bits (mêmes valeurs que MazeTemplate) : NORTH=1, SOUTH=2, EAST=4, WEST=8 ; bit à 1 = MUR.
+ * Cellule i (= row * cols + col) : quartet bas de l'octet i/2 si i pair, quartet haut sinon.
+ *
+ * Au format MazeEntity, une cellule ne peut prendre que 16 valeurs : cell(walls) retourne
+ * une Map immuable partagée au lieu d'allouer une HashMap par cellule.
+ */
+public final class WallCodec {
+
+    public static final int NORTH = 1;
+    public static final int SOUTH = 2;
+    public static final int EAST = 4;
+    public static final int WEST = 8;
+
+    // Les 16 cellules possibles {north, south, east, west}, indexées par leurs bits de murs
+    private static final List<Map<String, Boolean>> CELLS = new ArrayList<>(16);
+
+    static {
+        for (int walls = 0; walls < 16; walls++) {
+            Map<String, Boolean> cell = new LinkedHashMap<>(8);
+            cell.put("north", (walls & NORTH) != 0);
+            cell.put("south", (walls & SOUTH) != 0);
+            cell.put("east", (walls & EAST) != 0);
+            cell.put("west", (walls & WEST) != 0);
+            CELLS.add(Collections.unmodifiableMap(cell));
+        }
+    }
+
+    private WallCodec() {
+    }
+
+    /**
+     * Cellule partagée (immuable) correspondant aux bits de murs
+     */
+    public static Map<String, Boolean> cell(int walls) {
+        return CELLS.get(walls & 0x0F);
+    }
+
+    /**
+     * Bits de murs d'une cellule au format MazeEntity (clé absente = passage)
+     */
+    public static int walls(Map<String, Boolean> cell) {
+        int walls = 0;
+        if (Boolean.TRUE.equals(cell.get("north"))) walls |= NORTH;
+        if (Boolean.TRUE.equals(cell.get("south"))) walls |= SOUTH;
+        if (Boolean.TRUE.equals(cell.get("east"))) walls |= EAST;
+        if (Boolean.TRUE.equals(cell.get("west"))) walls |= WEST;
+        return walls;
+    }
+
+    /**
+     * Convertir une Grid en cells pour MongoDB (remplace l'ancien serializeCells du controller)
+     *
+     * Conversion :
+     * - true = MUR (pas de lien)
+     * - false = PASSAGE (lien existe)
+     *
+     * Aucune allocation par cellule : chaque cellule est l'une des 16 Maps partagées.
+     */
+    public static List<List<Map<String, Boolean>>> cells(Grid grid) {
+        List<List<Map<String, Boolean>>> result = new ArrayList<>(grid.getRows());
+        for (Cell[] row : grid.getGrid()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Boolean>[] rowCells = new Map[row.length];
+            for (int c = 0; c < row.length; c++) {
+                rowCells[c] = cell(walls(row[c]));
+            }
+            result.add(Arrays.asList(rowCells));
+        }
+        return result;
+    }
+
+    /**
+     * Bits de murs d'une cellule de Grid (bord ou absence de lien = mur)
+     */
+    public static int walls(Cell cell) {
+        int walls = 0;
+        if (cell.north == null || !cell.isLinked(cell.north)) walls |= NORTH;
+        if (cell.south == null || !cell.isLinked(cell.south)) walls |= SOUTH;
+        if (cell.east == null || !cell.isLinked(cell.east)) walls |= EAST;
+        if (cell.west == null || !cell.isLinked(cell.west)) walls |= WEST;
+        return walls;
+    }
+
+    /**
+     * Taille en octets des murs packés d'un maze rows x cols
+     */
+    public static int packedSize(int rows, int cols) {
+        return (rows * cols + 1) / 2;
+    }
+
+    /**
+     * Packer les cells (format MazeEntity : true = mur)
+     */
+    public static byte[] pack(List<List<Map<String, Boolean>>> cells, int rows, int cols) {
+        byte[] packed = new byte[packedSize(rows, cols)];
+        for (int r = 0; r < rows; r++) {
+            List<Map<String, Boolean>> row = cells.get(r);
+            for (int c = 0; c < cols; c++) {
+                int walls = walls(row.get(c));
+
+                int i = r * cols + c;
+                packed[i >> 1] |= (byte) ((i & 1) == 0 ? walls : walls << 4);
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Murs de la cellule i (quartet 0..15)
+     */
+    public static int wallsAt(byte[] packed, int i) {
+        int b = packed[i >> 1];
+        return (i & 1) == 0 ? b & 0x0F : (b >> 4) & 0x0F;
+    }
+
+    /**
+     * Bits de PASSAGES ouverts par cellule (inverse des murs), bords toujours fermés
+     * Format attendu par MazeAnalysis.analyze(rows, cols, open)
+     */
+    public static int[] openBits(byte[] packed, int rows, int cols) {
+        int[] open = new int[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int i = r * cols + c;
+                int bits = ~wallsAt(packed, i) & 0x0F;
+                if (r == 0) bits &= ~NORTH;
+                if (r == rows - 1) bits &= ~SOUTH;
+                if (c == 0) bits &= ~WEST;
+                if (c == cols - 1) bits &= ~EAST;
+                open[i] = bits;
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Reconstruire les cells au format MazeEntity
+     */
+    public static List<List<Map<String, Boolean>>> unpack(byte[] packed, int rows, int cols) {
+        List<List<Map<String, Boolean>>> cells = new ArrayList<>(rows);
+        for (int r = 0; r < rows; r++) {
+            @SuppressWarnings("unchecked")
+            Map<String, Boolean>[] row = new Map[cols];
+            for (int c = 0; c < cols; c++) {
+                row[c] = cell(wallsAt(packed, r * cols + c));
+            }
+            cells.add(Arrays.asList(row));
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.cache;
+
+import com.example.demo.metrics.MazeMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeCacheTest {
+
+    @Test
+    void secondReadShouldBeServedFromCache() {
+        MazeCache cache = new MazeCache(1024, new MazeMetrics(new SimpleMeterRegistry()));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a", id -> { loads.incrementAndGet(); return new byte[10]; });
+        cache.get("a", id -> { loads.incrementAndGet(); return new byte[10]; });
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void missingMazeShouldNotBeCached() {
+        MazeCache cache = new MazeCache(1024, new MazeMetrics(new SimpleMeterRegistry()));
+
+        assertNull(cache.get("missing", id -> null));
+        assertNotNull(cache.get("missing", id -> new byte[1]));
+    }
+
+    @Test
+    void invalidateShouldForceReload() {
+        MazeCache cache = new MazeCache(1024, new MazeMetrics(new SimpleMeterRegistry()));
+        cache.get("a", id -> new byte[] {1});
+
+        cache.invalidate("a");
+
+        assertEquals(2, cache.get("a", id -> new byte[] {2})[0]);
+    }
+
+    @Test
+    void totalBytesShouldBeBounded() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MazeCache cache = new MazeCache(100, new MazeMetrics(registry));
+
+        for (int i = 0; i < 10; i++) {
+            cache.get("m" + i, id -> new byte[40]);
+        }
+        cache.cleanUp();
+
+        assertTrue(cache.stats().evictionCount() >= 8);
+        assertTrue(cache.stats().evictionWeight() >= 320);
+        assertNotNull(registry.get("cache.evictions").tag("cache", MazeCache.NAME).functionCounter());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.concurrency;
+
+import com.example.demo.metrics.MazeMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationLimiterTest {
+
+    @Test
+    void shouldDefaultToAvailableProcessors() {
+        GenerationLimiter limiter = new GenerationLimiter(0, 2, new MazeMetrics(new SimpleMeterRegistry()));
+
+        assertEquals(Runtime.getRuntime().availableProcessors(), limiter.getMaxConcurrency());
+    }
+
+    @Test
+    void shouldNeverRunMoreTasksThanPermits() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GenerationLimiter limiter = new GenerationLimiter(2, 2, new MazeMetrics(registry));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(executor.submit(() -> limiter.call(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return running.decrementAndGet();
+                })));
+            }
+            for (Future<Integer> f : futures) f.get();
+        }
+
+        assertTrue(peak.get() <= 2);
+        assertEquals(2.0, registry.get("maze.generation.permits.available").gauge().value());
+    }
+
+    @Test
+    void shouldNeverRunMoreStreamsThanStreamPermits() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GenerationLimiter limiter = new GenerationLimiter(4, 1, new MazeMetrics(registry));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(executor.submit(() -> {
+                    limiter.stream(() -> {
+                        peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(2);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        running.decrementAndGet();
+                    });
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+        }
+
+        assertEquals(1, peak.get());
+        assertEquals(1.0, registry.get("maze.generation.streams.available").gauge().value());
+        assertEquals(4.0, registry.get("maze.generation.permits.available").gauge().value());
+    }
+}
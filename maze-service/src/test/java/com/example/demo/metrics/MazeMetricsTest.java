@@ -0,0 +1,44 @@
+package com.example.demo.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeMetricsTest {
+
+    @Test
+    void timeShouldRecordStageWithAlgorithmTag() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MazeMetrics metrics = new MazeMetrics(registry);
+
+        int result = metrics.time("carve", "TP", () -> 42);
+
+        assertEquals(42, result);
+        assertEquals(1, registry.get(MazeMetrics.STAGE_TIMER)
+            .tag("stage", "carve").tag("algorithm", "tp").timer().count());
+    }
+
+    @Test
+    void unknownAlgorithmShouldUseBoundedTag() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MazeMetrics metrics = new MazeMetrics(registry);
+
+        metrics.recordStage("braid", "whatever", 1_000);
+
+        assertNotNull(registry.get(MazeMetrics.STAGE_TIMER).tag("algorithm", "other").timer());
+    }
+
+    @Test
+    void failuresAndSizesShouldBeCounted() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MazeMetrics metrics = new MazeMetrics(registry);
+
+        metrics.validationFailure("tunnels");
+        metrics.validationFailure("tunnels");
+        metrics.mazeSize(31, 28);
+
+        assertEquals(2.0, registry.get(MazeMetrics.VALIDATION_FAILURES).tag("reason", "tunnels").counter().count());
+        assertEquals(868.0, registry.get(MazeMetrics.MAZE_CELLS).summary().totalAmount());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.models.components.algorithms;
+
+import com.example.demo.models.components.maze.Cell;
+import com.example.demo.models.components.maze.Grid;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowMazeGeneratorTest {
+
+    @Test
+    void sidewinderRowsShouldMatchGridCarving() throws IOException {
+        assertSameAsGrid("sw", new Sidewinder(new Random(7)), 17, 23);
+    }
+
+    @Test
+    void binaryTreeRowsShouldMatchGridCarving() throws IOException {
+        assertSameAsGrid("bt", new BinaryTree(new Random(7)), 12, 9);
+    }
+
+    @Test
+    void rowsShouldBeEmittedInOrderOnce() throws IOException {
+        int[] next = {0};
+        new RowMazeGenerator("sw", 50, 4, new Random()).generate((row, walls) -> {
+            assertEquals(next[0]++, row);
+            assertEquals(4, walls.length);
+        });
+        assertEquals(50, next[0]);
+    }
+
+    @Test
+    void unsupportedAlgorithmShouldBeRejected() {
+        assertFalse(RowMazeGenerator.supports("rb"));
+        assertThrows(IllegalArgumentException.class, () -> new RowMazeGenerator("tp", 2, 2, new Random()));
+    }
+
+    private static void assertSameAsGrid(String algo, MazeAlgorithms reference, int rows, int cols) throws IOException {
+        Grid grid = new Grid(rows, cols);
+        reference.carve(grid);
+
+        new RowMazeGenerator(algo, rows, cols, new Random(7)).generate((row, walls) -> {
+            for (int c = 0; c < cols; c++) {
+                Cell cell = grid.getCell(row, c);
+                assertEquals(cell.north == null || !cell.isLinked(cell.north), (walls[c] & RowMazeGenerator.NORTH) != 0);
+                assertEquals(cell.south == null || !cell.isLinked(cell.south), (walls[c] & RowMazeGenerator.SOUTH) != 0);
+                assertEquals(cell.east == null || !cell.isLinked(cell.east), (walls[c] & RowMazeGenerator.EAST) != 0);
+                assertEquals(cell.west == null || !cell.isLinked(cell.west), (walls[c] & RowMazeGenerator.WEST) != 0);
+            }
+        });
+    }
+}
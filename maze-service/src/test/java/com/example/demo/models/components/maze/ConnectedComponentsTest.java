@@ -0,0 +1,72 @@
+package com.example.demo.models.components.maze;
+
+import com.example.demo.models.components.algorithms.RecursiveBacktracker;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectedComponentsTest {
+
+    @Test
+    void unlinkedGridShouldHaveOneComponentPerCell() {
+        Grid grid = new Grid(4, 5);
+        ConnectedComponents components = ConnectedComponents.label(grid);
+
+        assertEquals(20, components.count());
+        assertEquals(1, components.sizeOf(components.componentOf(3, 4)));
+    }
+
+    @Test
+    void carvedGridShouldBeOneComponent() {
+        Grid grid = new Grid(31, 28);
+        RecursiveBacktracker.on(grid);
+        ConnectedComponents components = ConnectedComponents.label(grid);
+
+        assertEquals(1, components.count());
+        assertEquals(grid.size(), components.sizeOf(0));
+        assertTrue(grid.isFullyConnected());
+    }
+
+    @Test
+    void labelsShouldSeparateWalledRegions() {
+        Grid grid = new Grid(2, 4);
+        grid.getCell(0, 0).link(grid.getCell(0, 1));
+        grid.getCell(0, 0).link(grid.getCell(1, 0));
+        grid.getCell(0, 2).link(grid.getCell(0, 3));
+
+        ConnectedComponents components = ConnectedComponents.label(grid);
+
+        assertEquals(5, components.count());
+        assertEquals(components.componentOf(0, 1), components.componentOf(1, 0));
+        assertNotEquals(components.componentOf(0, 1), components.componentOf(0, 2));
+        assertEquals(3, components.sizeOf(components.largest()));
+    }
+
+    @Test
+    void repairShouldConnectWithMinimalOpenings() {
+        Grid grid = new Grid(6, 6);
+        int opened = ConnectedComponents.repair(grid, null, false);
+
+        assertEquals(grid.size() - 1, opened);
+        assertEquals(1, ConnectedComponents.label(grid).count());
+    }
+
+    @Test
+    void repairShouldKeepLockedCellsAndSymmetry() {
+        PacmanMaze maze = PacmanMaze.fromHalf(new RecursiveBacktracker(), 31, 28, 1.0);
+        Grid grid = maze.result();
+        // Couper la grille en deux au milieu pour forcer une réparation
+        for (int c = 0; c < grid.getColumns(); c++) {
+            grid.getCell(5, c).unlink(grid.getCell(6, c));
+        }
+        maze.addGhostHouse48();
+
+        maze.connectAll(true);
+
+        assertTrue(grid.isFullyConnected());
+        assertTrue(grid.isHorizontallySymmetric());
+        Cell ghostCorner = grid.getCell(13, 10);
+        assertFalse(ghostCorner.isLinked(ghostCorner.north));
+        assertFalse(ghostCorner.isLinked(ghostCorner.west));
+    }
+}
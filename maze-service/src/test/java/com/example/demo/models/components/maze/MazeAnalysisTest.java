@@ -0,0 +1,131 @@
+package com.example.demo.models.components.maze;
+
+import com.example.demo.models.components.algorithms.RecursiveBacktracker;
+import com.example.demo.models.entities.MazeStructure;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeAnalysisTest {
+
+    @Test
+    void straightCorridorShouldHaveTwoDeadEndsAndOneCorridor() {
+        Grid grid = new Grid(1, 5);
+        for (int c = 0; c < 4; c++) {
+            grid.getCell(0, c).link(grid.getCell(0, c + 1));
+        }
+
+        MazeStructure structure = MazeAnalysis.analyze(grid);
+
+        assertEquals(2, structure.getDeadEnds());
+        assertEquals(0, structure.getIntersections());
+        assertEquals(4, structure.getLongestPath());
+        assertEquals(0, structure.getCycles());
+        assertEquals(1, structure.getCorridorHistogram().get(4));
+        assertEquals(1.0, structure.getBranchingFactor());
+    }
+
+    @Test
+    void perfectMazeShouldHaveNoCyclesAndExactDiameter() {
+        Grid grid = new Grid(9, 11);
+        new RecursiveBacktracker(new Random(5)).carve(grid);
+
+        MazeStructure structure = MazeAnalysis.analyze(grid);
+
+        assertEquals(0, structure.getCycles());
+        assertEquals(0.0, structure.getLoopDensity());
+        assertEquals(grid.deadEnds().size(), structure.getDeadEnds());
+        assertEquals(bruteForceDiameter(grid), structure.getLongestPath());
+
+        // Somme des longueurs de couloirs = nombre d'arêtes (arbre : V - 1), hors plafond
+        int edges = 0;
+        for (int k = 0; k < structure.getCorridorHistogram().size(); k++) {
+            edges += k * structure.getCorridorHistogram().get(k);
+        }
+        if (structure.getCorridorHistogram().get(MazeAnalysis.MAX_CORRIDOR) == 0) {
+            assertEquals(grid.size() - 1, edges);
+        }
+    }
+
+    @Test
+    void cyclesShouldCountIndependentLoops() {
+        Grid grid = new Grid(3, 3);
+        // Anneau extérieur (1 cycle) + cellule centrale reliée au nord et au sud (1 cycle de plus)
+        int[][] ring = {{0, 0}, {0, 1}, {0, 2}, {1, 2}, {2, 2}, {2, 1}, {2, 0}, {1, 0}};
+        for (int i = 0; i < ring.length; i++) {
+            int[] a = ring[i];
+            int[] b = ring[(i + 1) % ring.length];
+            grid.getCell(a[0], a[1]).link(grid.getCell(b[0], b[1]));
+        }
+        grid.getCell(1, 1).link(grid.getCell(0, 1));
+        grid.getCell(1, 1).link(grid.getCell(2, 1));
+
+        MazeStructure structure = MazeAnalysis.analyze(grid);
+
+        assertEquals(2, structure.getCycles());
+        assertEquals(2.0 / 9, structure.getLoopDensity(), 1e-9);
+        assertEquals(2, structure.getIntersections());
+        assertEquals(0, structure.getDeadEnds());
+    }
+
+    @Test
+    void disconnectedCellsShouldCountAsComponents() {
+        Grid grid = new Grid(2, 2);
+
+        MazeStructure structure = MazeAnalysis.analyze(grid);
+
+        assertEquals(0, structure.getCycles());
+        assertEquals(0, structure.getLongestPath());
+    }
+
+    @Test
+    @Timeout(2)
+    void disagreeingNeighbourWallsShouldBeIgnoredNotLoopForever() {
+        int n = MazeAnalysis.NORTH, s = MazeAnalysis.SOUTH, e = MazeAnalysis.EAST, w = MazeAnalysis.WEST;
+        // (0,2) ouvre vers l'ouest mais (0,1) ne lui ouvre pas l'est ; (1,1) ouvre au nord et à l'ouest
+        int[] open = {e | s, w | s, w, n | e, n | w, 0};
+
+        assertFalse(MazeAnalysis.isConsistent(2, 3, open));
+        MazeStructure structure = MazeAnalysis.analyze(2, 3, open);
+
+        // Seuls les passages réciproques restent : anneau (0,0)-(0,1)-(1,1)-(1,0)
+        assertEquals(1, structure.getCycles());
+        assertEquals(0, structure.getDeadEnds());
+        assertEquals(2, structure.getLongestPath());
+    }
+
+    @Test
+    void consistentGridShouldBeAccepted() {
+        int[] open = {MazeAnalysis.EAST, MazeAnalysis.WEST};
+
+        assertTrue(MazeAnalysis.isConsistent(1, 2, open));
+        assertFalse(MazeAnalysis.isConsistent(1, 2, new int[]{MazeAnalysis.NORTH, 0}));
+    }
+
+    // Diamètre par BFS depuis chaque cellule (référence pour petites grilles)
+    private static int bruteForceDiameter(Grid grid) {
+        int best = 0;
+        for (Cell start : grid.eachCell()) {
+            Map<Cell, Integer> dist = new HashMap<>();
+            ArrayDeque<Cell> queue = new ArrayDeque<>();
+            dist.put(start, 0);
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                Cell cell = queue.poll();
+                for (Cell next : cell.links()) {
+                    if (dist.putIfAbsent(next, dist.get(cell) + 1) == null) {
+                        queue.add(next);
+                        best = Math.max(best, dist.get(next));
+                    }
+                }
+            }
+        }
+        return best;
+    }
+}
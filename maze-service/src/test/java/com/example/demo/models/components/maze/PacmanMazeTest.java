@@ -1,7 +1,14 @@
 package com.example.demo.models.components.maze;
 
+import com.example.demo.models.components.algorithms.RecursiveBacktracker;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PacmanMazeTest {
@@ -87,5 +94,110 @@ class PacmanMazeTest {
         }
     }
 
+    @Test
+    void fromHalfShouldBeSymmetricByConstruction() {
+        PacmanMaze maze = PacmanMaze.fromHalf(new RecursiveBacktracker(), 31, 28, 1.0);
+        Grid grid = maze.result();
+
+        assertEquals(31, grid.getRows());
+        assertEquals(28, grid.getColumns());
+        assertTrue(grid.isHorizontallySymmetric());
+        assertEquals(grid.size(), countReachable(grid));
+    }
+
+    @Test
+    void fromHalfShouldHandleOddColumns() {
+        Grid grid = PacmanMaze.fromHalf(new RecursiveBacktracker(), 21, 19, 1.0).result();
+
+        assertTrue(grid.isHorizontallySymmetric());
+        assertEquals(grid.size(), countReachable(grid));
+    }
+
+    @Test
+    void ghostHouseShouldStayCentredWithOddColumns() {
+        Grid grid = PacmanMaze.fromHalf(new RecursiveBacktracker(new Random(3)), 21, 19, 1.0,
+            (stage, nanos) -> { }, new Random(3)).adaptMirrored();
+
+        assertTrue(grid.isHorizontallySymmetric());
+        assertEquals(4 * 9, MazeTemplate.ghostHouse(21, 19).size());
+        assertEquals(4 * 8, MazeTemplate.ghostHouse(21, 20).size());
+    }
+
+    @Test
+    void fromHalfWithSameSeedShouldBeReproducible() {
+        Grid first = PacmanMaze.fromHalf(new RecursiveBacktracker(new Random(7)), 31, 28, 1.0,
+            (stage, nanos) -> { }, new Random(7)).adaptMirrored();
+        Grid second = PacmanMaze.fromHalf(new RecursiveBacktracker(new Random(7)), 31, 28, 1.0,
+            (stage, nanos) -> { }, new Random(7)).adaptMirrored();
+
+        assertEquals(first.toAscii(), second.toAscii());
+    }
+
+    @Test
+    void fullModeWithSameSeedShouldBeReproducible() {
+        assertEquals(fullMode(11).toAscii(), fullMode(11).toAscii());
+    }
+
+    private static Grid fullMode(long seed) {
+        Random rand = new Random(seed);
+        Grid grid = new Grid(31, 28);
+        new RecursiveBacktracker(rand).carve(grid);
+        grid.braid(1.0, rand);
+        return new PacmanMaze(grid).adapt(rand);
+    }
 
+    @Test
+    void ghostHouseTemplateShouldSealWallsInBothDirections() {
+        Grid grid = new Grid(31, 28);
+        RecursiveBacktracker.on(grid);
+        grid.braid(1.0);
+        new PacmanMaze(grid).stamp(MazeTemplate.ghostHouse(31, 28));
+
+        int minRow = 13, maxRow = 16, minCol = 10, maxCol = 17;
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                Cell cell = grid.getCell(r, c);
+                for (Cell n : cell.neighbors()) {
+                    boolean inside = n.row >= minRow && n.row <= maxRow && n.col >= minCol && n.col <= maxCol;
+                    boolean door = r == maxRow && n.row == maxRow + 1 && (c == minCol || c == maxCol);
+                    assertEquals(inside || door, cell.isLinked(n), cell + " -> " + n);
+                    assertEquals(cell.isLinked(n), n.isLinked(cell), cell + " <-> " + n);
+                }
+            }
+        }
+    }
+
+    @Test
+    void templatesShouldBeCompiledOncePerSize() {
+        assertSame(MazeTemplate.ghostHouse(31, 28), MazeTemplate.ghostHouse(31, 28));
+        assertNotSame(MazeTemplate.ghostHouse(31, 28), MazeTemplate.ghostHouse(41, 38));
+        assertEquals(32, MazeTemplate.ghostHouse(31, 28).size());
+    }
+
+    @Test
+    void powerPelletAlcovesShouldOpenOnlyInward() {
+        Grid grid = new Grid(31, 28);
+        RecursiveBacktracker.on(grid);
+        new PacmanMaze(grid).addPowerPelletAlcoves();
+
+        Cell corner = grid.getCell(2, 0);
+        assertEquals(1, corner.links().size());
+        assertTrue(corner.isLinked(corner.east));
+        Cell mirror = grid.getCell(2, 27);
+        assertEquals(1, mirror.links().size());
+        assertTrue(mirror.isLinked(mirror.west));
+    }
+
+    private int countReachable(Grid grid) {
+        Set<Cell> visited = new HashSet<>();
+        Deque<Cell> queue = new ArrayDeque<>();
+        queue.add(grid.getCell(0, 0));
+        visited.add(grid.getCell(0, 0));
+        while (!queue.isEmpty()) {
+            for (Cell n : queue.poll().links()) {
+                if (visited.add(n)) queue.add(n);
+            }
+        }
+        return visited.size();
+    }
 }
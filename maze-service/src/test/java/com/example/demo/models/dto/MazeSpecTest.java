@@ -0,0 +1,41 @@
+package com.example.demo.models.dto;
+
+import com.example.demo.models.components.algorithms.RecursiveBacktracker;
+import com.example.demo.models.components.algorithms.Sidewinder;
+import com.example.demo.models.components.maze.Grid;
+import com.example.demo.models.components.maze.PacmanMaze;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeSpecTest {
+
+    @Test
+    void defaultsShouldBeValid() {
+        assertNull(new MazeSpec(null, null, null, null, null).problem());
+        assertNull(new MazeSpec("sw", null, null, 1L, false).problem());
+    }
+
+    @Test
+    void sizesOutsideBoundsShouldBeRejected() {
+        assertNotNull(new MazeSpec("rb", 0, 10, null, false).problem());
+        assertNotNull(new MazeSpec("rb", -5, 10, null, false).problem());
+        assertNotNull(new MazeSpec("rb", 10, MazeSpec.MAX_SIDE + 1, null, false).problem());
+        assertNotNull(new MazeSpec("rb", MazeSpec.MIN_PACMAN_SIDE - 1, 28, null, true).problem());
+        assertNull(new MazeSpec("rb", MazeSpec.MIN_PACMAN_SIDE - 1, 28, null, false).problem());
+    }
+
+    @Test
+    void smallestAllowedMazesShouldGenerate() {
+        int min = MazeSpec.MIN_PACMAN_SIDE;
+        Grid pacman = PacmanMaze.fromHalf(new RecursiveBacktracker(new Random(3)), min, min, 1.0,
+            (stage, nanos) -> { }, new Random(3)).adaptMirrored();
+        assertEquals(min * min, pacman.size());
+
+        Grid raw = new Grid(MazeSpec.MIN_SIDE, MazeSpec.MIN_SIDE);
+        new Sidewinder(new Random(3)).carve(raw);
+        assertEquals(4, raw.size());
+    }
+}
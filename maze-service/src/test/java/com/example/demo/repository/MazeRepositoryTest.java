@@ -0,0 +1,289 @@
+package com.example.demo.repository;
+
+import com.example.demo.models.dto.MazeSearch;
+import com.example.demo.models.entities.AlgorithmRatingStats;
+import com.example.demo.models.entities.MazeEntity;
+import com.example.demo.models.entities.MazeStructure;
+import com.example.demo.models.entities.MazeSummary;
+import com.example.demo.storage.MongoMazeStore;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Finders et index de MazeRepository sur un serveur Mongo en mémoire (mongo-java-server).
+ */
+class MazeRepositoryTest {
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private MazeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "pacman-test");
+        repository = new MongoRepositoryFactory(mongoTemplate)
+            .getRepository(MazeRepository.class, RepositoryFragments.just(
+                new MazeRatingRepositoryImpl(mongoTemplate), new MazeSearchRepositoryImpl(mongoTemplate)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void ensureIndexesShouldCreateDeclaredIndexes() {
+        new MazeIndexes(mongoTemplate, true).ensureIndexes();
+
+        List<String> names = new ArrayList<>();
+        for (Document index : mongoTemplate.getCollection("mazes").listIndexes()) {
+            names.add(index.getString("name"));
+        }
+
+        assertTrue(names.contains("algorithm_ratingAvg"));
+        assertTrue(names.contains("ratingAvg"));
+        assertTrue(names.contains("createdAt"));
+        assertTrue(names.contains("algorithm_longestPath"));
+        assertTrue(names.contains("size_longestPath"));
+        assertTrue(names.contains("longestPath"));
+        assertTrue(names.contains("deadEnds"));
+        assertTrue(names.contains("loopDensity"));
+    }
+
+    @Test
+    void topRatedByAlgorithmShouldBeSortedAndLimited() {
+        save("rb", 3);
+        save("rb", 5);
+        save("rb", null);
+        save("rb", 1);
+        save("tp", 5);
+
+        List<MazeSummary> top = repository.findByAlgorithmAndRatingAvgNotNullOrderByRatingAvgDesc("rb", Limit.of(2));
+
+        assertEquals(2, top.size());
+        assertEquals(5.0, top.get(0).getRatingAvg());
+        assertEquals(3.0, top.get(1).getRatingAvg());
+        assertEquals("rb", top.get(0).getAlgorithm());
+    }
+
+    @Test
+    void topRatedShouldSortByAverageNotLastVote() {
+        MazeEntity mixed = save("rb", null);
+        MazeEntity steady = save("rb", null);
+        repository.rate(mixed.getId(), 5);
+        repository.rate(mixed.getId(), 1);   // dernière note 1, moyenne 3
+        repository.rate(steady.getId(), 2);  // dernière note 2, moyenne 2
+
+        List<MazeSummary> top = repository.findByRatingAvgGreaterThanEqualOrderByRatingAvgDesc(0.0, Limit.of(2));
+
+        assertEquals(List.of(mixed.getId(), steady.getId()), top.stream().map(MazeSummary::getId).toList());
+        assertEquals(3.0, top.get(0).getRatingAvg());
+        assertEquals(1, top.get(0).getRating());
+    }
+
+    @Test
+    void summariesShouldNotLoadCells() {
+        save("sw", 4);
+
+        List<MazeSummary> summaries = repository.findSummariesByAlgorithm("sw");
+
+        assertEquals(1, summaries.size());
+        assertEquals(3, summaries.get(0).getRows());
+        assertNotNull(summaries.get(0).getId());
+        assertNotNull(summaries.get(0).getCreatedAt());
+    }
+
+    @Test
+    void recentShouldReturnNewestFirst() throws InterruptedException {
+        save("rb", null);
+        Thread.sleep(2);
+        MazeEntity newest = save("bt", null);
+
+        List<MazeSummary> recent = repository.findByOrderByCreatedAtDesc(Limit.of(1));
+
+        assertEquals(1, recent.size());
+        assertEquals(newest.getId(), recent.get(0).getId());
+    }
+
+    @Test
+    void rateShouldIncrementCountersAndAlgorithmStats() {
+        MazeEntity maze = save("tp", null);
+        save("tp", null);
+
+        assertEquals("tp", repository.rate(maze.getId(), 4).orElseThrow());
+        repository.rate(maze.getId(), 2);
+
+        MazeEntity rated = repository.findById(maze.getId()).orElseThrow();
+        assertEquals(2, rated.getRating());
+        assertEquals(2, rated.getRatingCount());
+        assertEquals(3.0, rated.getAverageRating());
+        assertEquals(1, rated.getCells().size());
+
+        AlgorithmRatingStats stats = repository.ratingStats().get(0);
+        assertEquals("tp", stats.getAlgorithm());
+        assertEquals(2, stats.getCount());
+        assertEquals(3.0, stats.getAverage());
+    }
+
+    @Test
+    void rebuildRatingStatsShouldRecomputeFromMazeCounters() {
+        MazeEntity maze = save("tp", null);
+        save("rb", 4);
+        repository.rate(maze.getId(), 5);
+        mongoTemplate.dropCollection(AlgorithmRatingStats.class);  // agrégat perdu entre les deux écritures
+
+        List<AlgorithmRatingStats> stats = repository.rebuildRatingStats();
+
+        assertEquals(2, stats.size());
+        assertEquals(2, repository.ratingStats().size());
+        AlgorithmRatingStats tp = repository.ratingStats().stream()
+            .filter(s -> s.getAlgorithm().equals("tp")).findFirst().orElseThrow();
+        assertEquals(1, tp.getCount());
+        assertEquals(5.0, tp.getAverage());
+    }
+
+    @Test
+    void backfillShouldComputeMissingAverages() {
+        MazeEntity maze = save("rb", 4);
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(maze.getId())),
+            new Update().unset("ratingAvg"), MazeEntity.class);
+
+        assertEquals(1, repository.backfillRatingAvg());
+        assertEquals(4.0, repository.findById(maze.getId()).orElseThrow().getRatingAvg());
+        assertEquals(0, repository.backfillRatingAvg());
+    }
+
+    @Test
+    void importedRatingsShouldBeFoldedIntoStats() {
+        MongoMazeStore store = new MongoMazeStore(repository);
+        MazeEntity existing = store.save(new MazeEntity(3, 4, "rb", List.of()));
+        repository.rate(existing.getId(), 1);
+
+        MazeEntity imported = new MazeEntity(3, 4, "rb", List.of());
+        imported.setId(existing.getId());   // remplace le maze noté 1
+        imported.setRatingCount(2);
+        imported.setRatingSum(8);
+        store.saveAll(List.of(imported));
+
+        AlgorithmRatingStats stats = repository.ratingStats().get(0);
+        assertEquals(2, stats.getCount());
+        assertEquals(4.0, stats.getAverage());
+    }
+
+    @Test
+    void replacingAMazeShouldOnlyAdjustItsAlgorithms() {
+        MongoMazeStore store = new MongoMazeStore(repository);
+        MazeEntity moved = store.save(rated("rb", 4));
+        store.save(rated("tp", 2));
+
+        MazeEntity replacement = new MazeEntity(3, 4, "tp", List.of());
+        replacement.setId(moved.getId());    // le maze noté 4 passe de rb à tp, noté 5
+        replacement.setRatingCount(1);
+        replacement.setRatingSum(5);
+        store.save(replacement);
+
+        assertEquals(List.of("tp"), repository.ratingStats().stream().map(AlgorithmRatingStats::getAlgorithm).toList());
+        AlgorithmRatingStats tp = repository.ratingStats().get(0);
+        assertEquals(2, tp.getCount());
+        assertEquals(3.5, tp.getAverage());
+        assertEquals(5.0, repository.findById(moved.getId()).orElseThrow().getRatingAvg());
+    }
+
+    @Test
+    void rebuildShouldUpsertWithoutDroppingConcurrentRows() {
+        MazeEntity maze = save("tp", null);
+        repository.rate(maze.getId(), 3);
+        mongoTemplate.upsert(Query.query(Criteria.where("algorithm").is("sw")),
+            new Update().inc("count", 1).inc("sum", 2), AlgorithmRatingStats.class);  // plus aucun maze sw
+
+        repository.rebuildRatingStats();
+        repository.rebuildRatingStats();    // idempotent
+
+        assertEquals(2, mongoTemplate.count(new Query(), AlgorithmRatingStats.class));
+        assertEquals(List.of("tp"), repository.ratingStats().stream().map(AlgorithmRatingStats::getAlgorithm).toList());
+        assertEquals(3.0, repository.ratingStats().get(0).getAverage());
+    }
+
+    @Test
+    void rateUnknownMazeShouldReturnEmpty() {
+        assertTrue(repository.rate("60d5ec4f1234567890abcdef", 3).isEmpty());
+        assertTrue(repository.ratingStats().isEmpty());
+    }
+
+    @Test
+    void searchShouldFilterOnStructureAndPaginate() {
+        saveWithStructure("rb", 4, 10, 0.0);
+        saveWithStructure("rb", 2, 30, 0.2);
+        saveWithStructure("rb", 6, 20, 0.1);
+        saveWithStructure("tp", 1, 50, 0.0);
+
+        Slice<MazeSummary> first = repository.search(
+            new MazeSearch("rb", null, null, null, 5, null, null, null, null, "longestPath", "desc", 0, 1));
+        assertEquals(1, first.getNumberOfElements());
+        assertEquals(30, first.getContent().get(0).getStructure().getLongestPath());
+        assertEquals("rb", first.getContent().get(0).getAlgorithm());
+        assertTrue(first.hasNext());
+
+        Slice<MazeSummary> second = repository.search(
+            new MazeSearch("rb", null, null, null, 5, null, null, null, null, "longestPath", "desc", 1, 1));
+        assertEquals(10, second.getContent().get(0).getStructure().getLongestPath());
+        assertFalse(second.hasNext());
+
+        Slice<MazeSummary> loops = repository.search(
+            new MazeSearch(null, 3, 4, null, null, null, null, 0.05, null, "loopDensity", "asc", null, null));
+        assertEquals(List.of(0.1, 0.2), loops.getContent().stream()
+            .map(m -> m.getStructure().getLoopDensity()).toList());
+    }
+
+    private void saveWithStructure(String algorithm, int deadEnds, int longestPath, double loopDensity) {
+        MazeEntity entity = new MazeEntity(3, 4, algorithm,
+            List.of(List.of(Map.of("north", true, "south", false, "east", true, "west", true))));
+        entity.setStructure(new MazeStructure(deadEnds, 0, longestPath, 1.0, 0, loopDensity, List.of()));
+        repository.save(entity);
+    }
+
+    private static MazeEntity rated(String algorithm, int rating) {
+        MazeEntity entity = new MazeEntity(3, 4, algorithm, List.of());
+        entity.setRating(rating);
+        entity.setRatingCount(1);
+        entity.setRatingSum(rating);
+        return entity;
+    }
+
+    private MazeEntity save(String algorithm, Integer rating) {
+        MazeEntity entity = new MazeEntity(3, 4, algorithm,
+            List.of(List.of(Map.of("north", true, "south", false, "east", true, "west", true))));
+        if (rating != null) {
+            entity.setRating(rating);
+            entity.setRatingCount(1);
+            entity.setRatingSum(rating);
+        }
+        return repository.save(entity);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.demo.serialization;
+
+import com.example.demo.models.components.algorithms.RecursiveBacktracker;
+import com.example.demo.models.components.maze.Cell;
+import com.example.demo.models.components.maze.Grid;
+import com.example.demo.models.entities.MazeEntity;
+import com.example.demo.storage.WallCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compatibilité du format JSON et micro-benchmark contre l'ancien chemin
+ * (HashMap par cellule + toJsonResponse + ObjectMapper).
+ */
+class MazeJsonWriterTest {
+
+    // Flux qui ignore tout (et reste utilisable après close)
+    private static final OutputStream SINK = new OutputStream() {
+        @Override public void write(int b) { }
+        @Override public void write(byte[] b, int off, int len) { }
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MazeJsonWriter writer = new MazeJsonWriter(objectMapper);
+
+    @Test
+    void outputShouldMatchLegacyMapFormat() throws Exception {
+        Grid grid = carved(31, 28);
+        MazeEntity maze = entity(grid, WallCodec.cells(grid));
+        maze.setId("60d5ec4f1234567890abcdef");
+        maze.setRating(4);
+
+        byte[] legacy = objectMapper.writeValueAsBytes(legacyResponse(entity(grid, legacyCells(grid))));
+
+        // Seul ajout depuis l'ancien format : le champ "structure"
+        ObjectNode direct = (ObjectNode) objectMapper.readTree(writer.toBytes(maze));
+        assertTrue(direct.has("structure"));
+        direct.remove("structure");
+        assertEquals(objectMapper.readTree(legacy), direct);
+    }
+
+    @Test
+    void unratedMazeShouldWriteNulls() throws Exception {
+        MazeEntity maze = entity(carved(2, 3), WallCodec.cells(carved(2, 3)));
+
+        var tree = objectMapper.readTree(writer.toBytes(maze));
+
+        assertTrue(tree.get("id").isNull());
+        assertTrue(tree.get("rating").isNull());
+        assertTrue(tree.get("averageRating").isNull());
+        assertEquals(6, tree.get("totalCells").asInt());
+    }
+
+    @Test
+    void benchmarkAgainstLegacyPath() throws Exception {
+        Grid grid = carved(31, 28);
+        int iterations = 2_000;
+
+        // Chauffe JIT
+        for (int i = 0; i < iterations; i++) {
+            legacyPath(grid);
+            newPath(grid);
+        }
+
+        long[] legacy = measure(() -> legacyPath(grid), iterations);
+        long[] direct = measure(() -> newPath(grid), iterations);
+
+        System.out.printf("📊 31x28 x%d : legacy %d µs/op %d B/op | direct %d µs/op %d B/op%n",
+            iterations, legacy[0] / 1000, legacy[1], direct[0] / 1000, direct[1]);
+
+        // Le gain en garbage est déterministe (le temps dépend de la machine : seulement affiché)
+        assertTrue(direct[1] * 10 < legacy[1], "direct path should allocate an order of magnitude less");
+    }
+
+    // ==================== CHEMINS COMPARÉS ====================
+
+    // Les deux chemins écrivent dans un flux, comme le corps d'une réponse HTTP
+
+    private void legacyPath(Grid grid) throws Exception {
+        objectMapper.writeValue(SINK, legacyResponse(entity(grid, legacyCells(grid))));
+    }
+
+    private void newPath(Grid grid) throws Exception {
+        writer.write(SINK, entity(grid, WallCodec.cells(grid)));
+    }
+
+    // Ancien MazeController.serializeCells
+    private static List<List<Map<String, Boolean>>> legacyCells(Grid grid) {
+        List<List<Map<String, Boolean>>> result = new ArrayList<>();
+        for (Cell[] row : grid.getGrid()) {
+            List<Map<String, Boolean>> rowList = new ArrayList<>();
+            for (Cell cell : row) {
+                Map<String, Boolean> cellMap = new HashMap<>();
+                cellMap.put("north", cell.north == null || !cell.isLinked(cell.north));
+                cellMap.put("south", cell.south == null || !cell.isLinked(cell.south));
+                cellMap.put("east", cell.east == null || !cell.isLinked(cell.east));
+                cellMap.put("west", cell.west == null || !cell.isLinked(cell.west));
+                rowList.add(cellMap);
+            }
+            result.add(rowList);
+        }
+        return result;
+    }
+
+    // Ancien MazeController.toJsonResponse
+    private static Map<String, Object> legacyResponse(MazeEntity entity) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", "60d5ec4f1234567890abcdef");
+        response.put("rows", entity.getRows());
+        response.put("cols", entity.getCols());
+        response.put("algorithm", entity.getAlgorithm());
+        response.put("rating", 4);
+        response.put("ratingCount", entity.getRatingCount());
+        response.put("averageRating", entity.getAverageRating());
+        response.put("createdAt", entity.getCreatedAt());
+        response.put("totalCells", entity.getRows() * entity.getCols());
+        response.put("cells", entity.getCells());
+        return response;
+    }
+
+    // ==================== OUTILS ====================
+
+    private interface Op {
+        void run() throws Exception;
+    }
+
+    // {nanos par op, octets alloués par op} sur le thread courant
+    private static long[] measure(Op op, int iterations) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+
+        long bytesBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            op.run();
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(thread) - bytesBefore;
+        return new long[] {nanos / iterations, bytes / iterations};
+    }
+
+    private static Grid carved(int rows, int cols) {
+        Grid grid = new Grid(rows, cols);
+        new RecursiveBacktracker(new Random(3)).carve(grid);
+        return grid;
+    }
+
+    private static MazeEntity entity(Grid grid, List<List<Map<String, Boolean>>> cells) {
+        MazeEntity entity = new MazeEntity(grid.getRows(), grid.getColumns(), "rb", cells);
+        entity.setCreatedAt(1_700_000_000_000L);
+        return entity;
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.demo.storage;
+
+import com.example.demo.models.dto.MazeSearch;
+import com.example.demo.models.entities.AlgorithmRatingStats;
+import com.example.demo.models.entities.MazeEntity;
+import com.example.demo.models.entities.MazeStructure;
+import com.example.demo.models.entities.MazeSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Slice;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalMazeStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void savedMazeShouldBeReadBackWithSameWalls() throws IOException {
+        try (LocalMazeStore store = new LocalMazeStore(dir.resolve("mazes.log"), 4096)) {
+            MazeEntity maze = store.save(maze("rb", 3, 5));
+
+            MazeEntity loaded = store.findById(maze.getId()).orElseThrow();
+
+            assertEquals(maze.getCells(), loaded.getCells());
+            assertEquals("rb", loaded.getAlgorithm());
+            assertEquals(maze.getCreatedAt(), loaded.getCreatedAt());
+            assertTrue(store.findById("unknown").isEmpty());
+        }
+    }
+
+    @Test
+    void reopenShouldReplayPutsAndRatings() throws IOException {
+        Path file = dir.resolve("mazes.log");
+        String id;
+        try (LocalMazeStore store = new LocalMazeStore(file, 4096)) {
+            id = store.save(maze("tp", 4, 4)).getId();
+            store.save(maze("sw", 2, 2));
+            store.rate(id, 5);
+            store.rate(id, 3);
+        }
+
+        try (LocalMazeStore store = new LocalMazeStore(file, 4096)) {
+            MazeEntity maze = store.findById(id).orElseThrow();
+            assertEquals(3, maze.getRating());
+            assertEquals(4.0, maze.getAverageRating());
+            assertEquals(2, store.findAll().size());
+            assertNotNull(maze.getStructure()); // recalculée au rejeu
+
+            AlgorithmRatingStats stats = store.ratingStats().get(0);
+            assertEquals("tp", stats.getAlgorithm());
+            assertEquals(2, stats.getCount());
+        }
+    }
+
+    @Test
+    void importedRatingsShouldBeFoldedIntoStats() throws IOException {
+        Path file = dir.resolve("mazes.log");
+        try (LocalMazeStore store = new LocalMazeStore(file, 4096)) {
+            MazeEntity imported = maze("tp", 2, 2);
+            imported.setId("imported");
+            imported.setRatingCount(2);
+            imported.setRatingSum(9);
+            store.save(imported);
+            store.rate("imported", 3);
+            assertEquals(3, store.ratingStats().get(0).getCount());
+
+            // Remplacé : les notes de l'ancienne version sortent de l'agrégat
+            MazeEntity replaced = maze("tp", 2, 2);
+            replaced.setId("imported");
+            replaced.setRatingCount(1);
+            replaced.setRatingSum(5);
+            store.save(replaced);
+        }
+
+        try (LocalMazeStore store = new LocalMazeStore(file, 4096)) {
+            AlgorithmRatingStats stats = store.ratingStats().get(0);
+            assertEquals(1, stats.getCount());
+            assertEquals(5.0, stats.getAverage());
+        }
+    }
+
+    @Test
+    void mappingShouldGrowPastInitialSize() throws IOException {
+        Path file = dir.resolve("mazes.log");
+        try (LocalMazeStore store = new LocalMazeStore(file, 4096)) {
+            for (int i = 0; i < 50; i++) {
+                store.save(maze("rb", 31, 28));
+            }
+        }
+        try (LocalMazeStore store = new LocalMazeStore(file, 4096)) {
+            assertEquals(50, store.findByAlgorithm("rb").size());
+        }
+    }
+
+    @Test
+    void summaryQueriesShouldUseIndex() throws IOException {
+        try (LocalMazeStore store = new LocalMazeStore(dir.resolve("mazes.log"), 4096)) {
+            String low = store.save(maze("rb", 2, 2)).getId();
+            String high = store.save(maze("rb", 2, 2)).getId();
+            store.save(maze("bt", 2, 2));
+            store.rate(low, 1);
+            store.rate(high, 4);
+            store.rate(low, 5);  // dernière note 5, mais moyenne 3 < 4
+
+            List<MazeSummary> top = store.findTopRated("rb", 10);
+            assertEquals(List.of(high, low), top.stream().map(MazeSummary::getId).toList());
+            assertEquals(1, store.findSummariesByAlgorithm("bt").size());
+            assertEquals(2, store.findRecent(2).size());
+            assertTrue(store.rate("unknown", 3).isEmpty());
+        }
+    }
+
+    @Test
+    void searchShouldFilterSortAndPaginate() throws IOException {
+        try (LocalMazeStore store = new LocalMazeStore(dir.resolve("mazes.log"), 4096)) {
+            store.save(withStructure(maze("rb", 2, 2), 4, 10, 0.0));
+            store.save(withStructure(maze("rb", 2, 2), 2, 30, 0.2));
+            store.save(withStructure(maze("rb", 3, 3), 6, 20, 0.1));
+            store.save(withStructure(maze("bt", 2, 2), 1, 50, 0.0));
+
+            Slice<MazeSummary> longest = store.search(
+                new MazeSearch("rb", null, null, null, null, 15, null, null, null, null, null, null, 1));
+            assertEquals(30, longest.getContent().get(0).getStructure().getLongestPath());
+            assertTrue(longest.hasNext());
+
+            Slice<MazeSummary> next = store.search(
+                new MazeSearch("rb", null, null, null, null, 15, null, null, null, null, null, 1, 1));
+            assertEquals(20, next.getContent().get(0).getStructure().getLongestPath());
+            assertFalse(next.hasNext());
+
+            Slice<MazeSummary> fewDeadEnds = store.search(
+                new MazeSearch(null, 2, 2, null, 3, null, null, null, null, "deadEnds", "asc", null, null));
+            assertEquals(List.of(1, 2), fewDeadEnds.getContent().stream()
+                .map(m -> m.getStructure().getDeadEnds()).toList());
+
+            Slice<MazeSummary> loops = store.search(
+                new MazeSearch(null, null, null, null, null, null, null, 0.05, null, "loopDensity", null, null, null));
+            assertEquals(2, loops.getNumberOfElements());
+        }
+    }
+
+    private static MazeEntity withStructure(MazeEntity maze, int deadEnds, int longestPath, double loopDensity) {
+        maze.setStructure(new MazeStructure(deadEnds, 0, longestPath, 1.0, 0, loopDensity, List.of()));
+        return maze;
+    }
+
+    private static MazeEntity maze(String algo, int rows, int cols) {
+        List<List<Map<String, Boolean>>> cells = new ArrayList<>();
+        for (int r = 0; r < rows; r++) {
+            List<Map<String, Boolean>> row = new ArrayList<>();
+            for (int c = 0; c < cols; c++) {
+                row.add(Map.of("north", r == 0, "south", r == rows - 1, "east", (r + c) % 2 == 0, "west", c == 0));
+            }
+            cells.add(row);
+        }
+        return new MazeEntity(rows, cols, algo, cells);
+    }
+}
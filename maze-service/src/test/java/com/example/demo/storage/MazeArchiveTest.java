@@ -0,0 +1,185 @@
+package com.example.demo.storage;
+
+import com.example.demo.models.entities.MazeEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void archiveShouldRoundTripWithRandomAccess() throws IOException {
+        List<MazeEntity> mazes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            MazeEntity maze = maze("rb", 3 + i, 4);
+            maze.setId("maze-" + i);
+            mazes.add(maze);
+        }
+        mazes.get(2).setRating(4);
+        mazes.get(3).setAlgorithm(null);
+
+        Path file = dir.resolve("mazes.maza");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            MazeArchive.write(mazes, out);
+        }
+
+        try (MazeArchive archive = MazeArchive.open(file)) {
+            assertEquals(5, archive.size());
+
+            MazeEntity third = archive.get(2);
+            assertEquals("maze-2", third.getId());
+            assertEquals(5, third.getRows());
+            assertEquals(4, third.getRating());
+            assertEquals(mazes.get(2).getCells(), third.getCells());
+            assertNull(archive.get(3).getAlgorithm());
+            assertEquals(mazes.get(4).getCreatedAt(), archive.get(4).getCreatedAt());
+            assertThrows(IndexOutOfBoundsException.class, () -> archive.get(5));
+        }
+    }
+
+    @Test
+    void indexShouldHaveFixedSizeEntries() throws IOException {
+        Path file = dir.resolve("mazes.maza");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            MazeArchive.write(List.of(maze("tp", 2, 2), maze("tp", 31, 28)), out);
+        }
+
+        long expected = MazeArchive.HEADER_SIZE + 2L * MazeArchive.INDEX_ENTRY_SIZE
+            + 2 * (2 + 2 + 2 + 4 + 4 + 8 + 1 + 4 + 8) // id null, algo "tp"
+            + WallCodec.packedSize(2, 2) + WallCodec.packedSize(31, 28);
+        assertEquals(expected, Files.size(file));
+    }
+
+    @Test
+    void openShouldRejectOtherFiles() throws IOException {
+        Path file = dir.resolve("not-an-archive.bin");
+        Files.write(file, "{\"cells\": []}".getBytes());
+
+        assertThrows(IllegalArgumentException.class, () -> MazeArchive.open(file));
+    }
+
+    @Test
+    void openShouldRejectIndexEntriesOutsideTheFile() throws IOException {
+        Path file = write(List.of(maze("rb", 3, 4), maze("rb", 3, 4)));
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        bytes.putInt(MazeArchive.HEADER_SIZE + MazeArchive.INDEX_ENTRY_SIZE + Long.BYTES, 1 << 30); // length 2
+        Files.write(file, bytes.array());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> MazeArchive.open(file));
+        assertTrue(e.getMessage().contains("entry 1"));
+    }
+
+    @Test
+    void getShouldRejectOversizedMazes() throws IOException {
+        Path file = write(List.of(maze("rb", 3, 4)));
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        int record = (int) bytes.getLong(MazeArchive.HEADER_SIZE);
+        int rows = record + 2 + 2 + 2; // id null, algo "rb"
+        bytes.putInt(rows, 100_000);
+        Files.write(file, bytes.array());
+
+        try (MazeArchive archive = MazeArchive.open(file)) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> archive.get(0));
+            assertTrue(e.getMessage().contains("100000x4"));
+        }
+    }
+
+    @Test
+    void getShouldRejectTruncatedRecords() throws IOException {
+        Path file = write(List.of(maze("rb", 3, 4)));
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        bytes.putInt(MazeArchive.HEADER_SIZE + Long.BYTES, 10); // la chaîne algo dépasse l'enregistrement
+        Files.write(file, bytes.array());
+
+        try (MazeArchive archive = MazeArchive.open(file)) {
+            assertThrows(IllegalArgumentException.class, archive::readAll);
+        }
+    }
+
+    @Test
+    void openShouldRejectIndexEntriesPointingToTheSameRecord() throws IOException {
+        Path file = write(List.of(maze("rb", 3, 4), maze("rb", 3, 4)));
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        bytes.putLong(MazeArchive.HEADER_SIZE + MazeArchive.INDEX_ENTRY_SIZE, bytes.getLong(MazeArchive.HEADER_SIZE));
+        Files.write(file, bytes.array());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> MazeArchive.open(file));
+        assertTrue(e.getMessage().contains("Overlapping"));
+    }
+
+    @Test
+    void readAllShouldRejectArchivesOverTheCellBudget() throws IOException {
+        List<MazeEntity> mazes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            mazes.add(maze("rb", 3, 4));
+        }
+        Path file = write(mazes);
+        // Chaque en-tête annonce 1000x1000 : 5M cellules > MAX_TOTAL_CELLS, refusé avant tout décodage
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        for (int i = 0; i < 5; i++) {
+            int rows = (int) bytes.getLong(MazeArchive.HEADER_SIZE + i * MazeArchive.INDEX_ENTRY_SIZE) + 2 + 2 + 2;
+            bytes.putInt(rows, 1000);
+            bytes.putInt(rows + Integer.BYTES, 1000);
+        }
+        Files.write(file, bytes.array());
+
+        try (MazeArchive archive = MazeArchive.open(file)) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, archive::readAll);
+            assertTrue(e.getMessage().contains("exceeds"));
+        }
+    }
+
+    @Test
+    void getShouldRejectWallsThatDisagreeBetweenNeighbours() throws IOException {
+        MazeEntity maze = maze("rb", 2, 3);
+        List<List<Map<String, Boolean>>> cells = new ArrayList<>();
+        for (List<Map<String, Boolean>> row : maze.getCells()) {
+            cells.add(new ArrayList<>(row));
+        }
+        // (0,1) ferme l'est mais (0,2) laisse l'ouest ouvert
+        cells.get(0).set(1, Map.of("north", true, "south", false, "east", true, "west", false));
+        cells.get(0).set(2, Map.of("north", true, "south", false, "east", true, "west", false));
+        maze.setCells(cells);
+        Path file = write(List.of(maze));
+
+        try (MazeArchive archive = MazeArchive.open(file)) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> archive.get(0));
+            assertTrue(e.getMessage().contains("disagree"));
+        }
+    }
+
+    private Path write(List<MazeEntity> mazes) throws IOException {
+        Path file = dir.resolve("mazes.maza");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            MazeArchive.write(mazes, out);
+        }
+        return file;
+    }
+
+    private static MazeEntity maze(String algo, int rows, int cols) {
+        List<List<Map<String, Boolean>>> cells = new ArrayList<>();
+        for (int r = 0; r < rows; r++) {
+            List<Map<String, Boolean>> row = new ArrayList<>();
+            for (int c = 0; c < cols; c++) {
+                // Murs est/ouest cohérents entre voisines
+                row.add(Map.of("north", r == 0, "south", r == rows - 1,
+                    "east", (r * c) % 3 == 0, "west", c == 0 || (r * (c - 1)) % 3 == 0));
+            }
+            cells.add(row);
+        }
+        return new MazeEntity(rows, cols, algo, cells);
+    }
+}